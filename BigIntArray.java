@@ -0,0 +1,448 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+
+/*An IntArray that is split into fixed size pages held in a page directory and indexed
+with longs, so it is not capped at 2^31 elements.
+
+IntArray grows by doubling its backing array, so every resize needs the old and the new
+array at once (3x the data) and copies everything. Here growing just allocates one more
+page; the elements already added never move. Only the directory of page references gets
+doubled, and it is tiny: 2^20 ints (4MB) per page means a directory of 1024 entries
+covers 2^30 elements.
+
+Because the pages are independent, sort() and the bulk operations work on whole pages
+in parallel on the fork-join pool. They use the same SIMD/scalar kernels as IntArray*/
+public class BigIntArray implements Iterable<Integer> {
+
+	private static final int PAGE_BITS = 20;
+	private static final int PAGE_SIZE = 1 << PAGE_BITS;
+	private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+	//Merges smaller than this are done on one thread
+	private static final int MERGE_SEQUENTIAL = 1 << 16;
+
+	//The page directory, only the first pageCount entries are allocated
+	private int[][] pages;
+	private int pageCount = 0;
+
+	private long len = 0;
+
+	//initialize array with an empty directory
+	public BigIntArray() {
+		this(PAGE_SIZE);
+	}
+
+	//initialize the directory big enough for 'capacity' elements, pages come as they are needed
+	public BigIntArray(long capacity) {
+		if(capacity < 0) throw new IllegalArgumentException("Illegal Capacity: " + capacity);
+		long dirLength = (capacity + PAGE_MASK) >>> PAGE_BITS;
+		if(dirLength > Integer.MAX_VALUE) throw new IllegalArgumentException("Capacity too large: " + capacity);
+		pages = new int[Math.max(1, (int) dirLength)][];
+	}
+
+	//Given an array make it a dynamic array!
+	public BigIntArray(int[] array) {
+		this(array.length);
+		for(int from = 0; from < array.length; from += PAGE_SIZE) {
+			int n = Math.min(PAGE_SIZE, array.length - from);
+			addPage();
+			System.arraycopy(array, from, pages[pageCount - 1], 0, n);
+			len += n;
+		}
+	}
+
+	//Returns the size of the array
+	public long size() {
+		return len;
+	}
+
+	//Returns true or false on whether the array is empty
+	public boolean isEmpty() {
+		return len == 0;
+	}
+
+	//get and set methods
+	public int get(long index) {
+		if(index < 0 || index >= len) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + len);
+		return pages[(int) (index >>> PAGE_BITS)][(int) index & PAGE_MASK];
+	}
+
+	public void set(long index, int elem) {
+		if(index < 0 || index >= len) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + len);
+		pages[(int) (index >>> PAGE_BITS)][(int) index & PAGE_MASK] = elem;
+	}
+
+	//Add an element to this array, allocating a new page when the last one is full
+	public void add(int elem) {
+		if(len == (long) pageCount << PAGE_BITS) addPage();
+		pages[(int) (len >>> PAGE_BITS)][(int) len & PAGE_MASK] = elem;
+		len++;
+	}
+
+	//Allocates one more page, the directory doubles if it is full (only references are copied)
+	private void addPage() {
+		if(pageCount == pages.length) {
+			if(pageCount == Integer.MAX_VALUE) throw new OutOfMemoryError("Page directory is full");
+			pages = Arrays.copyOf(pages, (int) Math.min(Integer.MAX_VALUE, 2L * pageCount));
+		}
+		pages[pageCount++] = new int[PAGE_SIZE];
+	}
+
+	/*Remove the element at the specified index by shifting the tail left, O(n). Every page
+	after the index moves left by one and takes the first element of the next page*/
+	public void removeAt(long rm_index) {
+		if(rm_index < 0 || rm_index >= len) throw new IndexOutOfBoundsException("Index: " + rm_index + ", Size: " + len);
+		int lastPage = (int) ((len - 1) >>> PAGE_BITS);
+		int pg = (int) (rm_index >>> PAGE_BITS);
+		int off = (int) rm_index & PAGE_MASK;
+		for(; pg <= lastPage; pg++, off = 0) {
+			int[] page = pages[pg];
+			System.arraycopy(page, off + 1, page, off, PAGE_MASK - off);
+			if(pg < lastPage) page[PAGE_MASK] = pages[pg + 1][0];
+		}
+		--len;
+	}
+
+	//search and remove an element if it is found in the array
+	public boolean remove(int elem) {
+		long index = indexOf(elem);
+		if(index == -1) return false;
+		removeAt(index);
+		return true;
+	}
+
+	//Lets go of the pages past the last element
+	public void trimToSize() {
+		int used = (int) ((len + PAGE_MASK) >>> PAGE_BITS);
+		for(int pg = used; pg < pageCount; pg++) pages[pg] = null;
+		pageCount = used;
+		pages = Arrays.copyOf(pages, Math.max(1, used));
+	}
+
+	// Reverse the contents of this array
+	public void reverse() {
+		for(long i = 0, j = len - 1; i < j; i++, j--) {
+			int tmp = get(i);
+			set(i, get(j));
+			set(j, tmp);
+		}
+	}
+
+	/*Perform a binary search on this array to find an element in O(log(n)) time. The array
+	should however be sorted. Works like Arrays.binarySearch: the index of key if found,
+	otherwise (-(insertion point) - 1)*/
+	public long binarySearch(int key) {
+		if(len == 0) return -1;
+
+		//Find the page first by its last element, then search inside it
+		int lo = 0, hi = (int) ((len - 1) >>> PAGE_BITS);
+		while(lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if(pages[mid][PAGE_MASK] < key) lo = mid + 1;
+			else hi = mid;
+		}
+		int n = (int) Math.min(PAGE_SIZE, len - ((long) lo << PAGE_BITS));
+		int index = Arrays.binarySearch(pages[lo], 0, n, key);
+		long base = (long) lo << PAGE_BITS;
+		return index >= 0 ? base + index : index - base;
+	}
+
+	/*Sort this array. Every page is sorted on its own in parallel, then runs of pages are
+	merged pairwise, all pairs of a pass at once and big merges split further, into a
+	second set of pages. The two sets swap roles after each pass, so the result is never
+	copied back, but the sort does need a second copy of the data while it runs*/
+	public void sort() {
+		if(len < 2) return;
+		int used = (int) ((len + PAGE_MASK) >>> PAGE_BITS);
+
+		forEachPage(pg -> Arrays.sort(pages[pg], 0, pageLength(pg)));
+		if(used == 1) return;
+
+		int[][] src = Arrays.copyOf(pages, used);
+		int[][] dst = new int[used][];
+		for(int pg = 0; pg < used; pg++) dst[pg] = new int[PAGE_SIZE];
+
+		for(long run = PAGE_SIZE; run < len; run *= 2) {
+			final int[][] from = src, to = dst;
+			long pairs = (len + 2 * run - 1) / (2 * run);
+			MergeTask[] tasks = new MergeTask[(int) pairs];
+			for(int t = 0; t < tasks.length; t++) {
+				long lo = t * 2 * run, mid = Math.min(len, lo + run), hi = Math.min(len, lo + 2 * run);
+				tasks[t] = new MergeTask(from, lo, mid, mid, hi, to, lo);
+			}
+			ForkJoinPool.commonPool().invoke(new RecursiveAction() {
+				protected void compute() {
+					invokeAll(tasks);
+				}
+			});
+			src = to;
+			dst = from;
+		}
+
+		System.arraycopy(src, 0, pages, 0, used);
+	}
+
+	//Merges the sorted ranges a[aLo, aHi) and a[bLo, bHi) into dst from dLo
+	private static final class MergeTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int[][] src, dst;
+		private final long aLo, aHi, bLo, bHi, dLo;
+
+		MergeTask(int[][] src, long aLo, long aHi, long bLo, long bHi, int[][] dst, long dLo) {
+			this.src = src;
+			this.aLo = aLo;
+			this.aHi = aHi;
+			this.bLo = bLo;
+			this.bHi = bHi;
+			this.dst = dst;
+			this.dLo = dLo;
+		}
+
+		@Override
+		protected void compute() {
+			long aLen = aHi - aLo, bLen = bHi - bLo;
+			if(aLen + bLen <= MERGE_SEQUENTIAL) {
+				mergeSequential();
+				return;
+			}
+
+			//Split around the middle of the bigger range and find where that value goes in the other one
+			if(aLen >= bLen) {
+				long aMid = (aLo + aHi) >>> 1;
+				long bMid = lowerBound(src, bLo, bHi, at(src, aMid));
+				long dMid = dLo + (aMid - aLo) + (bMid - bLo);
+				invokeAll(new MergeTask(src, aLo, aMid, bLo, bMid, dst, dLo),
+					new MergeTask(src, aMid, aHi, bMid, bHi, dst, dMid));
+			} else {
+				long bMid = (bLo + bHi) >>> 1;
+				long aMid = lowerBound(src, aLo, aHi, at(src, bMid));
+				long dMid = dLo + (aMid - aLo) + (bMid - bLo);
+				invokeAll(new MergeTask(src, aLo, aMid, bLo, bMid, dst, dLo),
+					new MergeTask(src, aMid, aHi, bMid, bHi, dst, dMid));
+			}
+		}
+
+		private void mergeSequential() {
+			long i = aLo, j = bLo, d = dLo;
+			while(i < aHi && j < bHi) {
+				int x = at(src, i), y = at(src, j);
+				if(x <= y) {
+					put(dst, d++, x);
+					i++;
+				} else {
+					put(dst, d++, y);
+					j++;
+				}
+			}
+			for(; i < aHi; i++) put(dst, d++, at(src, i));
+			for(; j < bHi; j++) put(dst, d++, at(src, j));
+		}
+	}
+
+	private static int at(int[][] p, long i) {
+		return p[(int) (i >>> PAGE_BITS)][(int) i & PAGE_MASK];
+	}
+
+	private static void put(int[][] p, long i, int value) {
+		p[(int) (i >>> PAGE_BITS)][(int) i & PAGE_MASK] = value;
+	}
+
+	//First index in [lo, hi) whose value is >= key
+	private static long lowerBound(int[][] p, long lo, long hi, int key) {
+		while(lo < hi) {
+			long mid = (lo + hi) >>> 1;
+			if(at(p, mid) < key) lo = mid + 1;
+			else hi = mid;
+		}
+		return lo;
+	}
+
+	/*Bulk operations, every page runs through IntArray's kernels (SIMD when the Vector
+	API is there) and the pages run in parallel*/
+
+	//Number of elements in use on page pg
+	private int pageLength(int pg) {
+		return (int) Math.min(PAGE_SIZE, len - ((long) pg << PAGE_BITS));
+	}
+
+	private IntStream pageStream() {
+		IntStream s = IntStream.range(0, (int) ((len + PAGE_MASK) >>> PAGE_BITS));
+		return len > PAGE_SIZE ? s.parallel() : s;
+	}
+
+	private void forEachPage(java.util.function.IntConsumer body) {
+		pageStream().forEach(body);
+	}
+
+	// Sum of all the elements
+	public long sum() {
+		return pageStream().mapToLong(pg -> IntArray.KERNELS.sum(pages[pg], 0, pageLength(pg))).sum();
+	}
+
+	// Smallest element, the array must not be empty
+	public int min() {
+		if(len == 0) throw new java.util.NoSuchElementException("Array is empty");
+		return pageStream().map(pg -> IntArray.KERNELS.min(pages[pg], 0, pageLength(pg))).min().getAsInt();
+	}
+
+	// Largest element, the array must not be empty
+	public int max() {
+		if(len == 0) throw new java.util.NoSuchElementException("Array is empty");
+		return pageStream().map(pg -> IntArray.KERNELS.max(pages[pg], 0, pageLength(pg))).max().getAsInt();
+	}
+
+	// Number of elements equal to value
+	public long count(int value) {
+		return pageStream().mapToLong(pg -> IntArray.KERNELS.count(pages[pg], 0, pageLength(pg), value)).sum();
+	}
+
+	// Index of the first element equal to value, -1 if there is none
+	public long indexOf(int value) {
+		return pageStream().mapToLong(pg -> {
+			int i = IntArray.KERNELS.indexOf(pages[pg], 0, pageLength(pg), value);
+			return i == -1 ? -1 : ((long) pg << PAGE_BITS) + i;
+		}).filter(i -> i != -1).findFirst().orElse(-1);
+	}
+
+	public boolean contains(int value) {
+		return indexOf(value) != -1;
+	}
+
+	// Sets the elements in [from, to) to value
+	public void fill(long from, long to, int value) {
+		if(from < 0 || to > len || from > to) throw new IndexOutOfBoundsException();
+		if(from == to) return;
+		IntStream s = IntStream.rangeClosed((int) (from >>> PAGE_BITS), (int) ((to - 1) >>> PAGE_BITS));
+		if(to - from > PAGE_SIZE) s = s.parallel();
+		s.forEach(pg -> {
+			long base = (long) pg << PAGE_BITS;
+			int lo = (int) Math.max(0, from - base), hi = (int) Math.min(PAGE_SIZE, to - base);
+			IntArray.KERNELS.fill(pages[pg], lo, hi, value);
+		});
+	}
+
+	// Adds other to this array element by element, both must be the same size
+	public void add(BigIntArray other) {
+		if(other.len != len) throw new IllegalArgumentException("Sizes differ: " + len + " vs " + other.len);
+		forEachPage(pg -> IntArray.KERNELS.add(pages[pg], other.pages[pg], pageLength(pg)));
+	}
+
+	/*Returns a bitmask of the elements that compare to value with op: bit i (bit i % 64
+	of long i / 64) is set when get(i) op value holds*/
+	public long[] filter(IntKernels.Cmp op, int value) {
+		long[] bits = newBitmask();
+		forEachPage(pg -> {
+			long[] pageBits = IntArray.KERNELS.filter(pages[pg], 0, pageLength(pg), op, value);
+			System.arraycopy(pageBits, 0, bits, pg << (PAGE_BITS - 6), pageBits.length);
+		});
+		return bits;
+	}
+
+	// Same as above for an arbitrary predicate, always a scalar loop per page
+	public long[] filter(java.util.function.IntPredicate predicate) {
+		long[] bits = newBitmask();
+		forEachPage(pg -> {
+			int[] page = pages[pg];
+			int base = pg << (PAGE_BITS - 6);
+			for(int i = 0, n = pageLength(pg); i < n; i++) if(predicate.test(page[i])) bits[base + (i >>> 6)] |= 1L << i;
+		});
+		return bits;
+	}
+
+	private long[] newBitmask() {
+		long words = (len + 63) >>> 6;
+		if(words > Integer.MAX_VALUE - 8) throw new IllegalStateException("Too many elements for a bitmask: " + len);
+		return new long[(int) words];
+	}
+
+	//Calls action on every element in order, page by page
+	public void forEachInt(java.util.function.IntConsumer action) {
+		for(int pg = 0; pg < pageCount && ((long) pg << PAGE_BITS) < len; pg++) {
+			int[] page = pages[pg];
+			for(int i = 0, n = pageLength(pg); i < n; i++) action.accept(page[i]);
+		}
+	}
+
+	//Iterates without boxing through nextInt()
+	public java.util.PrimitiveIterator.OfInt primitiveIterator() {
+		return new java.util.PrimitiveIterator.OfInt() {
+			long index = 0;
+
+			public boolean hasNext() {
+				return index < len;
+			}
+
+			public int nextInt() {
+				if(index >= len) throw new java.util.NoSuchElementException();
+				int value = pages[(int) (index >>> PAGE_BITS)][(int) index & PAGE_MASK];
+				index++;
+				return value;
+			}
+		};
+	}
+
+	// Iterator is still fast but not as fast as iterative for loop
+	@Override
+	public java.util.Iterator<Integer> iterator() {
+		return primitiveIterator();
+	}
+
+	@Override
+	public String toString() {
+		if(len == 0) return "[]";
+		StringBuilder sb = new StringBuilder("[");
+		primitiveIterator().forEachRemaining((int x) -> sb.append(x).append(", "));
+		sb.setLength(sb.length() - 2);
+		return sb.append("]").toString();
+	}
+
+	// Example usage
+	public static void main(String[] args) {
+
+		BigIntArray ar = new BigIntArray();
+		ar.add(3);
+		ar.add(7);
+		ar.add(6);
+		ar.add(-2);
+
+		ar.sort();
+		System.out.println(ar); // [-2, 3, 6, 7]
+		System.out.println(ar.binarySearch(6)); // 2
+
+		benchMarkTest();
+	}
+
+	// BenchMark growing and sorting against IntArray. Needs a big enough heap (-Xmx2g)
+	private static void benchMarkTest() {
+
+		int n = 100000000;
+		java.util.Random rnd = new java.util.Random(0);
+		int[] data = new int[n];
+		for(int i = 0; i < n; i++) data[i] = rnd.nextInt();
+
+		long start = System.nanoTime();
+		IntArray small = new IntArray();
+		for(int i = 0; i < n; i++) small.add(data[i]);
+		long end = System.nanoTime();
+		System.out.println("IntArray add Time: " + (end - start) / 1e9);
+
+		start = System.nanoTime();
+		BigIntArray big = new BigIntArray();
+		for(int i = 0; i < n; i++) big.add(data[i]);
+		end = System.nanoTime();
+		System.out.println("BigIntArray add Time: " + (end - start) / 1e9);
+
+		start = System.nanoTime();
+		small.sort(IntArray.SortMode.PARALLEL);
+		end = System.nanoTime();
+		System.out.println("IntArray parallel sort Time: " + (end - start) / 1e9);
+
+		start = System.nanoTime();
+		big.sort();
+		end = System.nanoTime();
+		System.out.println("BigIntArray sort Time: " + (end - start) / 1e9);
+	}
+}
@@ -39,10 +39,10 @@ public class BinaryHeap<T extends Comparable<T>> {
  			(heapSize / 2) - 1 ensures that only nodes with children undergo sink()*/
 	 } 
 
-	// Priority queue construction, O(nlog(n))
+	// Priority queue construction, O(n) since addAll heapifies an empty heap
 	public BinaryHeap(Collection<T> elems) {
 		this(elems.size());
-		for (T elem : elems) add(elem);
+		addAll(elems);
   	}
 
   	//Returns true/false depending on if the priority queue is empty
@@ -98,6 +98,65 @@ public class BinaryHeap<T extends Comparable<T>> {
   		heapSize++;
   	}
 
+  	/*Adds a batch of elements, none of which may be null. Small batches are added one
+  	at a time, O(klog(n)). When the batch is large compared to the heap it is cheaper to
+  	append everything and redo Floyd's bottom up heapify over the whole heap, O(n + k)*/
+  	public void addAll(Collection<? extends T> elems) {
+  		for(T elem : elems) if(elem == null) throw new IllegalArgumentException();
+
+  		int k = elems.size();
+  		int n = heapSize + k;
+  		int logN = 32 - Integer.numberOfLeadingZeros(n);
+
+  		//k inserts cost about k*log(n) swaps, a rebuild costs about n sinks
+  		if((long) k * logN < n) {
+  			for(T elem : elems) add(elem);
+  			return;
+  		}
+
+  		for(T elem : elems) {
+  			if(heapSize < heapCapacity) {
+  				heap.set(heapSize, elem);
+  			} else {
+  				heap.add(elem);
+  				heapCapacity++;
+  			}
+  			heapSize++;
+  		}
+
+  		//Heapify process, O(n)
+  		for(int i = Math.max(0, (heapSize / 2) - 1); i >= 0; i--) sink(i);
+  	}
+
+  	/*Removes up to k elements in priority order and stores them in out starting at
+  	index 0. Returns how many elements were actually polled, O(klog(n))*/
+  	public int pollBatch(int k, T[] out) {
+  		if(k < 0 || k > out.length) throw new IllegalArgumentException("Illegal batch size: " + k);
+  		int polled = Math.min(k, heapSize);
+  		for(int i = 0; i < polled; i++) out[i] = pollRoot();
+  		return polled;
+  	}
+
+  	/*Moves every element of the heap into the collection in priority order and leaves
+  	the heap empty. Returns the number of elements moved, O(nlog(n))*/
+  	public int drainTo(Collection<? super T> c) {
+  		if(c == null) throw new IllegalArgumentException();
+  		int drained = heapSize;
+  		while(heapSize > 0) c.add(pollRoot());
+  		return drained;
+  	}
+
+  	/*Removes the root without the generic sink-or-swim check of removeAt, the element
+  	moved into the root can only ever sink. Assumes the heap is not empty*/
+  	private T pollRoot() {
+  		T root = heap.get(0);
+  		heapSize--;
+  		heap.set(0, heap.get(heapSize));
+  		heap.set(heapSize, null);
+  		if(heapSize > 0) sink(0);
+  		return root;
+  	}
+
   	/*Tests if the value of node i <= node j
   	This method assumes i & j are valid indices, O(1)*/
   	private boolean less(int i, int j) {
@@ -0,0 +1,223 @@
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*A concurrent, relaxed min PQ (the MultiQueue design). Instead of one BinaryHeap behind
+one lock, which caps throughput at about one core, the queue is split into c*P shards
+where P is the number of threads and c the relaxation factor. Each shard is a plain
+BinaryHeap with its own lock.
+ - add() pushes into a random shard.
+ - poll() samples two random shards and pops the smaller of their two tops.
+So poll() does not always return the global minimum, just something close to it, and
+threads rarely fight over the same lock. A bigger c means less contention but a looser
+order. In strict mode poll() locks every shard and returns the true minimum, which is
+slow but exact*/
+public class ConcurrentMultiQueue<T extends Comparable<T>> {
+
+	//Tries at sampling two shards before poll() falls back to scanning them all
+	private static final int SAMPLE_TRIES = 8;
+
+	private static final class Shard<T extends Comparable<T>> {
+		final ReentrantLock lock = new ReentrantLock();
+		final BinaryHeap<T> heap = new BinaryHeap<>();
+
+		/*Copy of heap.peek(), only written while holding the lock but read without it
+		so poll() can compare two shards before deciding which one to lock*/
+		volatile T top;
+		volatile int size;
+	}
+
+	private final Shard<T>[] shards;
+	private final boolean strict;
+
+	//Shards for every available processor, with relaxation factor 2
+	public ConcurrentMultiQueue() {
+		this(Runtime.getRuntime().availableProcessors(), 2, false);
+	}
+
+	/*threads - number of threads expected to use the queue (P)
+	  c - shards per thread, the relaxation factor
+	  strict - if true poll() always returns the global minimum*/
+	@SuppressWarnings("unchecked")
+	public ConcurrentMultiQueue(int threads, int c, boolean strict) {
+		if(threads <= 0) throw new IllegalArgumentException("threads <= 0 is not allowed");
+		if(c <= 0) throw new IllegalArgumentException("c <= 0 is not allowed");
+		this.strict = strict;
+		shards = (Shard<T>[]) new Shard<?>[Math.max(2, threads * c)];
+		for(int i = 0; i < shards.length; i++) shards[i] = new Shard<>();
+	}
+
+	//Returns the number of shards the elements are spread over
+	public int shardCount() {
+		return shards.length;
+	}
+
+	public boolean isStrict() {
+		return strict;
+	}
+
+	//Sum of the shard sizes, only a snapshot while other threads are modifying the queue
+	public int size() {
+		int sz = 0;
+		for(Shard<T> s : shards) sz += s.size;
+		return sz;
+	}
+
+	public boolean isEmpty() {
+		for(Shard<T> s : shards) if(s.size != 0) return false;
+		return true;
+	}
+
+	//Adds an element to a random shard, the element must not be null
+	public void add(T elem) {
+		if(elem == null) throw new IllegalArgumentException();
+		ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+		//Pick shards until we find one nobody else holds, after SAMPLE_TRIES just wait on the last one
+		Shard<T> s = shards[rnd.nextInt(shards.length)];
+		for(int tries = 1; !s.lock.tryLock(); tries++) {
+			if(tries >= SAMPLE_TRIES) {
+				s.lock.lock();
+				break;
+			}
+			s = shards[rnd.nextInt(shards.length)];
+		}
+		try {
+			s.heap.add(elem);
+			s.top = s.heap.peek();
+			s.size = s.heap.size();
+		} finally {
+			s.lock.unlock();
+		}
+	}
+
+	/*Removes an element close to the minimum (exactly the minimum in strict mode).
+	Returns null if the queue is empty*/
+	public T poll() {
+		if(strict) return pollStrict();
+
+		ThreadLocalRandom rnd = ThreadLocalRandom.current();
+		for(int tries = 0; tries < SAMPLE_TRIES; tries++) {
+			Shard<T> a = shards[rnd.nextInt(shards.length)];
+			Shard<T> b = shards[rnd.nextInt(shards.length)];
+			Shard<T> s = better(a.top, b.top) ? a : b;
+			if(s.top == null || !s.lock.tryLock()) continue;
+			try {
+				T elem = pollShard(s);
+				if(elem != null) return elem;
+			} finally {
+				s.lock.unlock();
+			}
+		}
+
+		//Sampling kept hitting empty or busy shards, walk all of them before giving up
+		int start = rnd.nextInt(shards.length);
+		for(int i = 0; i < shards.length; i++) {
+			Shard<T> s = shards[(start + i) % shards.length];
+			if(s.top == null) continue;
+			s.lock.lock();
+			try {
+				T elem = pollShard(s);
+				if(elem != null) return elem;
+			} finally {
+				s.lock.unlock();
+			}
+		}
+		return null;
+	}
+
+	//Lock every shard (always in index order to avoid deadlock) and pop the true minimum
+	private T pollStrict() {
+		for(Shard<T> s : shards) s.lock.lock();
+		try {
+			Shard<T> best = null;
+			for(Shard<T> s : shards) if(best == null || better(s.top, best.top)) best = s;
+			return pollShard(best);
+		} finally {
+			for(Shard<T> s : shards) s.lock.unlock();
+		}
+	}
+
+	//Pops the top of a shard and refreshes its cached top. Caller holds the lock
+	private T pollShard(Shard<T> s) {
+		T elem = s.heap.poll();
+		s.top = s.heap.peek();
+		s.size = s.heap.size();
+		return elem;
+	}
+
+	//Tests if top a should be polled before top b, an empty shard (null) is never better
+	private boolean better(T a, T b) {
+		if(a == null) return false;
+		if(b == null) return true;
+		return a.compareTo(b) <= 0;
+	}
+
+	// Example usage
+	public static void main(String[] args) throws InterruptedException {
+
+		ConcurrentMultiQueue<Integer> q = new ConcurrentMultiQueue<>(1, 2, true);
+		q.add(5);
+		q.add(1);
+		q.add(3);
+		while(!q.isEmpty()) System.out.println(q.poll()); // 1, 3, 5 in strict mode
+
+		benchMarkTest();
+	}
+
+	/*BenchMark the MultiQueue vs a synchronized BinaryHeap vs PriorityBlockingQueue.
+	Every thread does an add followed by a poll, from 1 thread up to the number of
+	available processors*/
+	private static void benchMarkTest() throws InterruptedException {
+
+		final int opsPerThread = 1000000;
+		int maxThreads = Runtime.getRuntime().availableProcessors();
+
+		for(int threads = 1; threads <= maxThreads; threads *= 2) {
+
+			final ConcurrentMultiQueue<Integer> mq = new ConcurrentMultiQueue<>(threads, 2, false);
+			double t1 = runBenchMark(threads, opsPerThread, new Ops() {
+				public void add(int v) { mq.add(v); }
+				public void poll() { mq.poll(); }
+			});
+
+			final BinaryHeap<Integer> heap = new BinaryHeap<>();
+			double t2 = runBenchMark(threads, opsPerThread, new Ops() {
+				public void add(int v) { synchronized(heap) { heap.add(v); } }
+				public void poll() { synchronized(heap) { heap.poll(); } }
+			});
+
+			final java.util.concurrent.PriorityBlockingQueue<Integer> pbq =
+				new java.util.concurrent.PriorityBlockingQueue<>();
+			double t3 = runBenchMark(threads, opsPerThread, new Ops() {
+				public void add(int v) { pbq.add(v); }
+				public void poll() { pbq.poll(); }
+			});
+
+			System.out.println(threads + " thread(s) - MultiQueue Time: " + t1 +
+				", synchronized BinaryHeap Time: " + t2 + ", PriorityBlockingQueue Time: " + t3);
+		}
+	}
+
+	private interface Ops {
+		void add(int v);
+		void poll();
+	}
+
+	private static double runBenchMark(int threads, final int ops, final Ops q) throws InterruptedException {
+		Thread[] workers = new Thread[threads];
+		for(int t = 0; t < threads; t++) {
+			workers[t] = new Thread(() -> {
+				ThreadLocalRandom rnd = ThreadLocalRandom.current();
+				for(int i = 0; i < ops; i++) {
+					q.add(rnd.nextInt());
+					q.poll();
+				}
+			});
+		}
+		long start = System.nanoTime();
+		for(Thread w : workers) w.start();
+		for(Thread w : workers) w.join();
+		long end = System.nanoTime();
+		return (end - start) / 1e9;
+	}
+}
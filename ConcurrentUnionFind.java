@@ -0,0 +1,153 @@
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/*A lock free union find that many threads can find/unify on at the same time, e.g.
+to process the edges of a graph in parallel when computing connected components.
+ - Every parent pointer lives in an AtomicIntegerArray and is only changed with CAS.
+ - Linking uses randomized ranks: each element gets a fixed pseudo random priority
+   (a hash of its index) and the root with the lower priority is linked under the
+   other one. No sizes or ranks have to be kept in sync, which is what makes a single
+   CAS enough for a union, and the random order keeps the trees shallow.
+ - find() does path halving: every other node on the path is pointed at its
+   grandparent with a CAS. A failed CAS just means some other thread already
+   shortened the path, so it is never retried.
+ - The number of merges is kept in a LongAdder so threads never fight over a counter.
+Unlike UnionFind the size is fixed at construction and component sizes are not
+tracked, since keeping them exact would need more than one CAS per union*/
+public class ConcurrentUnionFind {
+
+	//The number of elements in this union find
+	private final int size;
+
+	//id[i] points to the parent of i, if id[i] = i then i is a root node
+	private final AtomicIntegerArray id;
+
+	//Counts the successful unions, components = size - merges
+	private final LongAdder merges = new LongAdder();
+
+	public ConcurrentUnionFind(int size) {
+
+		if(size <= 0) throw new IllegalArgumentException("Size <= 0 is not allowed");
+
+		this.size = size;
+		id = new AtomicIntegerArray(size);
+		for(int i = 0; i < size; i++) id.set(i, i);//Link to itself(self root)
+	}
+
+	//Find the root of the component/set p belongs to, lock free
+	public int find(int p) {
+		while(true) {
+			int parent = id.get(p);
+			if(parent == p) return p;
+
+			int grandParent = id.get(parent);
+			if(parent == grandParent) return parent;
+
+			//Path halving, skip over the parent. Losing the race here is harmless
+			id.compareAndSet(p, parent, grandParent);
+			p = grandParent;
+		}
+	}
+
+	/*Return whether or not the elements 'p' and 'q' are in the same components/set.
+	If the root found for p is still a root after finding q's root then the answer was
+	true at that moment; otherwise a union got in between and we look again*/
+	public boolean connected(int p, int q) {
+		while(true) {
+			int root1 = find(p);
+			int root2 = find(q);
+			if(root1 == root2) return true;
+			if(id.get(root1) == root1) return false;
+		}
+	}
+
+	//Return the number of elements in this UnionFind/Disjoint set
+	public int size() {
+		return size;
+	}
+
+	//Returns the number of remaining components/sets, exact once all unions are done
+	public int components() {
+		return size - (int) merges.sum();
+	}
+
+	/*Unify the components/sets containing elements 'p' and 'q'. Returns true if this
+	call merged two components, false if they already were one*/
+	public boolean unify(int p, int q) {
+		while(true) {
+			int root1 = find(p);
+			int root2 = find(q);
+
+			//These elements are already in the same group!
+			if(root1 == root2) return false;
+
+			//Always link the root with the lower priority under the other one
+			if(lowerPriority(root2, root1)) {
+				int tmp = root1;
+				root1 = root2;
+				root2 = tmp;
+			}
+
+			/*The CAS only succeeds if root1 is still a root, otherwise another thread
+			linked it somewhere in the meantime and we start over*/
+			if(id.compareAndSet(root1, root1, root2)) {
+				merges.increment();
+				return true;
+			}
+		}
+	}
+
+	//Tests if element i ranks below element j, ties on the hash are broken by index
+	private static boolean lowerPriority(int i, int j) {
+		int hi = priority(i), hj = priority(j);
+		return hi < hj || (hi == hj && i < j);
+	}
+
+	//A fixed pseudo random priority for every element (murmur3's 32 bit finalizer)
+	private static int priority(int i) {
+		int h = i;
+		h ^= h >>> 16;
+		h *= 0x85ebca6b;
+		h ^= h >>> 13;
+		h *= 0xc2b2ae35;
+		h ^= h >>> 16;
+		return h;
+	}
+
+	// Example usage
+	public static void main(String[] args) {
+
+		ConcurrentUnionFind uf = new ConcurrentUnionFind(5);
+		uf.unify(0, 1);
+		uf.unify(3, 4);
+		System.out.println(uf.connected(0, 1)); // true
+		System.out.println(uf.connected(1, 3)); // false
+		System.out.println(uf.components()); // 3
+
+		benchMarkTest();
+	}
+
+	// BenchMark parallel ConcurrentUnionFind vs UnionFind on one thread.
+	private static void benchMarkTest() {
+
+		final int n = 5000000, m = 10000000;
+		java.util.Random rnd = new java.util.Random(0);
+		final int[] from = new int[m], to = new int[m];
+		for(int i = 0; i < m; i++) {
+			from[i] = rnd.nextInt(n);
+			to[i] = rnd.nextInt(n);
+		}
+
+		long start = System.nanoTime();
+		UnionFind uf = new UnionFind(n);
+		for(int i = 0; i < m; i++) uf.unify(from[i], to[i]);
+		long end = System.nanoTime();
+		System.out.println("UnionFind Time: " + (end - start) / 1e9 + ", components: " + uf.components());
+
+		start = System.nanoTime();
+		final ConcurrentUnionFind cuf = new ConcurrentUnionFind(n);
+		java.util.stream.IntStream.range(0, m).parallel().forEach(i -> cuf.unify(from[i], to[i]));
+		end = System.nanoTime();
+		System.out.println("ConcurrentUnionFind Time: " + (end - start) / 1e9 + ", components: " + cuf.components());
+	}
+}
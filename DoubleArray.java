@@ -0,0 +1,143 @@
+// Generated by PrimitiveArrayGenerator from the same template as the other primitive arrays, do not edit
+public class DoubleArray implements Iterable<Double> {
+
+	private static final int DEFAULT_CAP = 1 << 3;
+
+	public double[] arr;
+	public int len = 0;
+	private int capacity = 0;
+
+	//initialize array with default capacity
+	public DoubleArray() {
+		this(DEFAULT_CAP);
+	}
+
+	//initialize the array with a certain capacity
+	public DoubleArray(int capacity) {
+		if(capacity < 0) throw new IllegalArgumentException("Illegal Capacity: " + capacity);
+		this.capacity = capacity;
+		arr = new double[capacity];
+	}
+
+	//Given an array make it a dynamic array!
+	public DoubleArray(double[] array) {
+		if(array == null) throw new IllegalArgumentException("Array cannot be null");
+		arr = java.util.Arrays.copyOf(array, array.length);
+		capacity = len = array.length;
+	}
+
+	//Returns the size of the array
+	public int size() {
+		return len;
+	}
+
+	//Returns true or false on whether the array is empty
+	public boolean isEmpty() {
+		return len == 0;
+	}
+
+	//get and set methods
+	public double get(int index) {
+		return arr[index];
+	}
+
+	public void set(int index, double elem) {
+		arr[index] = elem;
+	}
+
+	//Add an element to this Dynamic Array
+	public void add(double elem) {
+		if(len + 1 >= capacity) {
+			if(capacity == 0) capacity = 1;
+			else capacity *= 2; //double the array capacity here
+
+			arr = java.util.Arrays.copyOf(arr, capacity); // pads with zeros
+		}
+		arr[len++] = elem;
+	}
+
+	//Remove the element at the specified index by shifting the tail left, O(n)
+	public void removeAt(int rm_index) {
+		if(rm_index < 0 || rm_index >= len) throw new IndexOutOfBoundsException();
+		System.arraycopy(arr, rm_index + 1, arr, rm_index, len - rm_index - 1);
+		--len;
+	}
+
+	//search and remove an element if it is found in the array
+	public boolean remove(double elem) {
+		for(int i = 0; i < len; i++) {
+			if(Double.compare(arr[i], elem) == 0) {
+				removeAt(i);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// Reverse the contents of this array
+	public void reverse() {
+		for(int i = 0; i < len / 2; i++) {
+			double tmp = arr[i];
+			arr[i] = arr[len - i - 1];
+			arr[len - i - 1] = tmp;
+		}
+	}
+
+	// Perform a binary search on this array to find an element in O(log(n)) time
+	// The array should however be sorted.(Make sure of that)! Returns a value < 0 if item is not found
+	public int binarySearch(double key) {
+		return java.util.Arrays.binarySearch(arr, 0, len, key);
+	}
+
+	// Sort this array
+	public void sort() {
+		java.util.Arrays.sort(arr, 0, len);
+	}
+
+	// Iterate without boxing, values are widened to double like the JDK streams do
+	public java.util.PrimitiveIterator.OfDouble primitiveIterator() {
+		return new java.util.PrimitiveIterator.OfDouble() {
+			int index = 0;
+
+			public boolean hasNext() {
+				return index < len;
+			}
+
+			public double nextDouble() {
+				if(index >= len) throw new java.util.NoSuchElementException();
+				return arr[index++];
+			}
+		};
+	}
+
+	// Iterator is still fast but not as fast as iterative for loop
+	@Override
+	public java.util.Iterator<Double> iterator() {
+		return new java.util.Iterator<Double>() {
+			int index = 0;
+
+			public boolean hasNext() {
+				return index < len;
+			}
+
+			public Double next() {
+				return arr[index++];
+			}
+
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		if(len == 0) return "[]";
+		else {
+			StringBuilder sb = new StringBuilder(len).append("[");
+			for(int i = 0; i < len - 1; i++) sb.append(arr[i] + ", ");
+			return sb.append(arr[len - 1] + "]").toString();
+		}
+	}
+
+}
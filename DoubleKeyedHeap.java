@@ -0,0 +1,115 @@
+/*A min PQ of (double key, int payload) entries. The keys and payloads are kept in two
+parallel arrays that always move together, so "priority + id" style entries need no
+object per element and nothing gets boxed. The payload is usually an index into some
+other array (a node id, a task slot, ...)*/
+public class DoubleKeyedHeap {
+
+	private static final int DEFAULT_CAP = 1 << 4;
+
+	private double[] keys;
+	private int[] payloads;
+	private int heapSize = 0;
+
+	public DoubleKeyedHeap() {
+		this(DEFAULT_CAP);
+	}
+
+	//Construct a priority queue with an initial capacity, it grows as needed
+	public DoubleKeyedHeap(int capacity) {
+		if(capacity < 0) throw new IllegalArgumentException("Illegal capacity: " + capacity);
+		keys = new double[Math.max(1, capacity)];
+		payloads = new int[keys.length];
+	}
+
+	// Returns the number of entries inside the heap
+	public int size() {
+		return heapSize;
+	}
+
+	// Returns true/false on whether the heap is empty
+	public boolean isEmpty() {
+		return heapSize == 0;
+	}
+
+	public void clear() {
+		heapSize = 0;
+	}
+
+	// Returns the smallest key, make sure the heap is not empty first!
+	public double peekKey() {
+		if(isEmpty()) throw new RuntimeException("Heap Is Empty");
+		return keys[0];
+	}
+
+	// Returns the payload that goes with the smallest key
+	public int peekPayload() {
+		if(isEmpty()) throw new RuntimeException("Heap Is Empty");
+		return payloads[0];
+	}
+
+	// Add an entry to the heap, NaN keys are rejected, O(log(n))
+	public void add(double key, int payload) {
+		if(Double.isNaN(key)) throw new IllegalArgumentException("NaN keys cannot be ordered");
+		if(heapSize == keys.length) {
+			keys = java.util.Arrays.copyOf(keys, heapSize << 1);
+			payloads = java.util.Arrays.copyOf(payloads, heapSize << 1);
+		}
+		swim(heapSize++, key, payload);
+	}
+
+	/*Remove the entry with the smallest key and return its payload, O(log(n)). Call
+	peekKey() first if the key is needed too*/
+	public int poll() {
+		int payload = peekPayload();
+		if(--heapSize > 0) sink(0, keys[heapSize], payloads[heapSize]);
+		return payload;
+	}
+
+	//Pull parents bigger than key down into the hole at k, then drop the entry in
+	private void swim(int k, double key, int payload) {
+		while(k > 0) {
+			int parent = (k - 1) >>> 1;
+			if(key >= keys[parent]) break;
+			keys[k] = keys[parent];
+			payloads[k] = payloads[parent];
+			k = parent;
+		}
+		keys[k] = key;
+		payloads[k] = payload;
+	}
+
+	//Pull the smaller child up into the hole at k until key fits, then drop the entry in
+	private void sink(int k, double key, int payload) {
+		int half = heapSize >>> 1;
+		while(k < half) {
+			int child = 2 * k + 1;
+			int right = child + 1;
+			if(right < heapSize && keys[right] < keys[child]) child = right;
+			if(key <= keys[child]) break;
+			keys[k] = keys[child];
+			payloads[k] = payloads[child];
+			k = child;
+		}
+		keys[k] = key;
+		payloads[k] = payload;
+	}
+
+	// Testing method to make sure the heap invariant holds, call with k = 0
+	public boolean isMinHeap(int k) {
+		if(k >= heapSize) return true;
+		int left = 2 * k + 1, right = 2 * k + 2;
+		if(left < heapSize && keys[left] < keys[k]) return false;
+		if(right < heapSize && keys[right] < keys[k]) return false;
+		return isMinHeap(left) && isMinHeap(right);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder(heapSize * 8).append("[");
+		for(int i = 0; i < heapSize; i++) {
+			if(i > 0) sb.append(", ");
+			sb.append(keys[i]).append('=').append(payloads[i]);
+		}
+		return sb.append("]").toString();
+	}
+}
@@ -255,6 +255,69 @@ public class DoublyLinkedList<T> implements Iterable<T> {
 			    };
 			}
 
+			/*A linked list can not be cut in the middle without walking to it, so like
+			java.util.LinkedList the spliterator splits off a batch from the front: the
+			nodes are copied into an array, which then splits exactly, and the batch grows
+			by BATCH_UNIT each split so big lists hand out big chunks of work*/
+			@Override
+			public java.util.Spliterator<T> spliterator() {
+				return new BatchSpliterator();
+			}
+
+			public java.util.stream.Stream<T> stream() {
+				return java.util.stream.StreamSupport.stream(spliterator(), false);
+			}
+
+			public java.util.stream.Stream<T> parallelStream() {
+				return java.util.stream.StreamSupport.stream(spliterator(), true);
+			}
+
+			private static final int BATCH_UNIT = 1 << 10;
+			private static final int MAX_BATCH = 1 << 25;
+
+			private class BatchSpliterator implements java.util.Spliterator<T> {
+				private Node<T> trav = head;
+				private int remaining = size; // nodes left from trav to the tail
+				private int batch = 0;
+
+				@Override
+				public boolean tryAdvance(java.util.function.Consumer<? super T> action) {
+					if(trav == null) return false;
+					T data = trav.data;
+					trav = trav.next;
+					remaining--;
+					action.accept(data);
+					return true;
+				}
+
+				@Override
+				public void forEachRemaining(java.util.function.Consumer<? super T> action) {
+					for(; trav != null; trav = trav.next) action.accept(trav.data);
+					remaining = 0;
+				}
+
+				@Override
+				public java.util.Spliterator<T> trySplit() {
+					if(remaining <= 1) return null;
+					int n = Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), remaining);
+					Object[] a = new Object[n];
+					for(int i = 0; i < n; i++, trav = trav.next) a[i] = trav.data;
+					remaining -= n;
+					batch = n;
+					return java.util.Spliterators.spliterator(a, 0, n, ORDERED);
+				}
+
+				@Override
+				public long estimateSize() {
+					return remaining;
+				}
+
+				@Override
+				public int characteristics() {
+					return ORDERED | SIZED | SUBSIZED;
+				}
+			}
+
 			@Override
 			public String toString() {
 			    StringBuilder sb = new StringBuilder();
@@ -6,6 +6,9 @@ public class DynamicArray<T> implements Iterable<T> {
 	private int len = 0;//length the user thinks array is
 	private int capacity = 0; //Actual array size
 
+	//Never shrink below this many slots
+	private static final int MIN_SHRINK_CAPACITY = 16;
+
 	public DynamicArray() {
 		this(16);
 	}
@@ -51,18 +54,72 @@ public class DynamicArray<T> implements Iterable<T> {
     arr[len++] = elem;
   }
 
+	  // Removes the element at rm_index by shifting the tail left in place, O(n - rm_index)
 	  public T removeAt(int rm_index) {
 	  	if(rm_index >= len || rm_index < 0) throw new IndexOutOfBoundsException();
 	  	T data = arr[rm_index];
-	  	T[] new_arr = (T[]) new Object[len - 1]; //new array with -1 capacity
-	  	for(int i = 0, j = 0; i<len; i++, j++)
-	  		if(i == rm_index) j--;//skip over rm_index by fixing j temporarily. element we removing wont be copied. This will be done instead
-	  		else new_arr[j] = arr[i];
-	  	arr = new_arr;
-	  	capacity = --len;
+	  	System.arraycopy(arr, rm_index + 1, arr, rm_index, len - rm_index - 1);
+	  	arr[--len] = null; // let the gc collect the stale reference at the end
+	  	shrinkIfSparse();
 	  	return data;
 	  }
 
+	  // Removes the elements in [from, to) with a single shift of the tail, O(n - from)
+	  public void removeRange(int from, int to) {
+	  	if(from < 0 || to > len || from > to) throw new IndexOutOfBoundsException();
+	  	System.arraycopy(arr, to, arr, from, len - to);
+	  	int newLen = len - (to - from);
+	  	for(int i = newLen; i < len; i++) arr[i] = null;
+	  	len = newLen;
+	  	shrinkIfSparse();
+	  }
+
+	  /*Removes every element the filter accepts, O(n). Like ArrayList.removeIf the filter
+	  is run over everything first and the removed positions are marked in a bitmask;
+	  only then are the survivors moved down. If the filter throws, the array is left
+	  untouched. Returns true if anything was removed*/
+	  public boolean removeIf(java.util.function.Predicate<? super T> filter) {
+	  	if(filter == null) throw new IllegalArgumentException("Filter cannot be null");
+
+	  	// Nothing changes before the first match
+	  	int first = 0;
+	  	while(first < len && !filter.test(arr[first])) first++;
+	  	if(first == len) return false;
+
+	  	long[] removed = new long[((len - first) >>> 6) + 1];
+	  	for(int i = first; i < len; i++) {
+	  		if(i == first || filter.test(arr[i])) removed[(i - first) >>> 6] |= 1L << (i - first);
+	  	}
+
+	  	int j = first;
+	  	for(int i = first; i < len; i++) {
+	  		if((removed[(i - first) >>> 6] & (1L << (i - first))) == 0) arr[j++] = arr[i];
+	  	}
+	  	for(int i = j; i < len; i++) arr[i] = null;
+	  	len = j;
+	  	shrinkIfSparse();
+	  	return true;
+	  }
+
+	  // Keeps only the elements that are also in c, in a single compacting pass
+	  public boolean retainAll(java.util.Collection<?> c) {
+	  	if(c == null) throw new IllegalArgumentException("Collection cannot be null");
+	  	return removeIf(elem -> !c.contains(elem));
+	  }
+
+	  /*Shrink policy with hysteresis: the array doubles when it is full but is only
+	  halved once it drops to a quarter full. A run of adds and removes around a
+	  boundary can then never make it reallocate over and over. Bulk removals can empty
+	  most of the array at once, so keep halving until the rule holds again, then copy once*/
+	  private void shrinkIfSparse() {
+	  	int newCapacity = capacity;
+	  	while(newCapacity > MIN_SHRINK_CAPACITY && len <= newCapacity / 4) newCapacity /= 2;
+	  	if(newCapacity != capacity) {
+	  		capacity = newCapacity;
+	  		arr = java.util.Arrays.copyOf(arr, capacity);
+	  	}
+	  }
+
 	  public boolean remove(Object obj) {
 	    int index = indexOf(obj);
 	    if (index == -1) return false;
@@ -110,6 +167,21 @@ public class DynamicArray<T> implements Iterable<T> {
 	    };
 	  }
 
+	  /*Splits exactly in half over the backing array (SIZED and SUBSIZED), so parallel
+	  streams get balanced work. Covers the elements present when it is created*/
+	  @Override
+	  public java.util.Spliterator<T> spliterator() {
+	    return java.util.Spliterators.spliterator(arr, 0, len, java.util.Spliterator.ORDERED);
+	  }
+
+	  public java.util.stream.Stream<T> stream() {
+	    return java.util.stream.StreamSupport.stream(spliterator(), false);
+	  }
+
+	  public java.util.stream.Stream<T> parallelStream() {
+	    return java.util.stream.StreamSupport.stream(spliterator(), true);
+	  }
+
    @Override
 	  public String toString() {
 	    if (len == 0) return "[]";
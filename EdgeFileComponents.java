@@ -0,0 +1,190 @@
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/*Connected components over an edge list stored in a binary file, without turning any
+edge into an object. The file is a plain sequence of little endian (from, to) pairs,
+either two int32 or two int64 per edge, with vertex ids in [0, n).
+
+The file is memory mapped one window (up to about 1GB) at a time and the edges are
+read straight out of the mapping through an IntBuffer/LongBuffer view, so nothing is
+parsed or copied onto the heap. With one thread every edge goes to UnionFind.unify();
+with more threads each window is cut into one slice per thread and they all unify on
+a shared ConcurrentUnionFind.
+
+The result is a dense component label (0..k-1) for every vertex plus the size of
+every component*/
+public class EdgeFileComponents {
+
+	//How the edges are laid out in the file
+	public enum Format {
+		INT_PAIRS(8), LONG_PAIRS(16);
+
+		//Bytes per edge
+		final int edgeBytes;
+
+		Format(int edgeBytes) {
+			this.edgeBytes = edgeBytes;
+		}
+	}
+
+	//Largest window mapped at once, a whole number of edges for both formats
+	private static final long MAX_WINDOW_BYTES = 1L << 30;
+
+	public static final class Result {
+		//labels[v] is the component of vertex v, in the range [0, components())
+		public final int[] labels;
+
+		//componentSizes[c] is the number of vertices with label c
+		public final int[] componentSizes;
+
+		Result(int[] labels, int[] componentSizes) {
+			this.labels = labels;
+			this.componentSizes = componentSizes;
+		}
+
+		public int components() {
+			return componentSizes.length;
+		}
+	}
+
+	private EdgeFileComponents() {}
+
+	//Single threaded connected components of the n vertices in the edge file
+	public static Result compute(Path edges, Format format, int n) throws IOException {
+		UnionFind uf = new UnionFind(n);
+		forEachWindow(edges, format, window -> unifyAll(uf::unify, window, format, 0, window.limit() / format.edgeBytes, n));
+		return label(uf::find, n);
+	}
+
+	/*Connected components using 'threads' threads. Every mapped window is split into
+	equal slices that are unified in parallel on a ConcurrentUnionFind*/
+	public static Result compute(Path edges, Format format, int n, int threads) throws IOException {
+		if(threads <= 1) return compute(edges, format, n);
+
+		ConcurrentUnionFind uf = new ConcurrentUnionFind(n);
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try {
+			forEachWindow(edges, format, window -> {
+				int m = window.limit() / format.edgeBytes;
+				Future<?>[] tasks = new Future<?>[threads];
+				for(int t = 0; t < threads; t++) {
+					final int from = (int) ((long) m * t / threads);
+					final int to = (int) ((long) m * (t + 1) / threads);
+					tasks[t] = pool.submit(() -> unifyAll(uf::unify, window, format, from, to, n));
+				}
+				for(Future<?> task : tasks) {
+					try {
+						task.get();
+					} catch(Exception e) {
+						Throwable cause = e.getCause() != null ? e.getCause() : e;
+						if(cause instanceof RuntimeException) throw (RuntimeException) cause;
+						throw new RuntimeException(cause);
+					}
+				}
+			});
+		} finally {
+			pool.shutdown();
+		}
+		return label(uf::find, n);
+	}
+
+	private interface Unifier {
+		void unify(int p, int q);
+	}
+
+	private interface WindowConsumer {
+		void accept(MappedByteBuffer window) throws IOException;
+	}
+
+	//Maps the file window by window and hands each one to the consumer
+	private static void forEachWindow(Path edges, Format format, WindowConsumer consumer) throws IOException {
+		try(FileChannel ch = FileChannel.open(edges, StandardOpenOption.READ)) {
+			long fileSize = ch.size();
+			if(fileSize % format.edgeBytes != 0) throw new IOException("Edge file size is not a multiple of " + format.edgeBytes + " bytes");
+
+			for(long pos = 0; pos < fileSize; pos += MAX_WINDOW_BYTES) {
+				long len = Math.min(MAX_WINDOW_BYTES, fileSize - pos);
+				MappedByteBuffer window = ch.map(FileChannel.MapMode.READ_ONLY, pos, len);
+				window.order(ByteOrder.LITTLE_ENDIAN);
+				consumer.accept(window);
+			}
+		}
+	}
+
+	/*Unifies edges [from, to) of a window. The buffer views are per call, so several
+	threads can read the same window at once*/
+	private static void unifyAll(Unifier uf, MappedByteBuffer window, Format format, int from, int to, int n) {
+		if(format == Format.INT_PAIRS) {
+			IntBuffer ib = window.duplicate().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+			for(int e = from; e < to; e++) {
+				int p = ib.get(2 * e), q = ib.get(2 * e + 1);
+				if(p < 0 || p >= n || q < 0 || q >= n) throw new IllegalArgumentException("Edge (" + p + ", " + q + ") is out of range");
+				uf.unify(p, q);
+			}
+		} else {
+			LongBuffer lb = window.duplicate().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+			for(int e = from; e < to; e++) {
+				long p = lb.get(2 * e), q = lb.get(2 * e + 1);
+				if(p < 0 || p >= n || q < 0 || q >= n) throw new IllegalArgumentException("Edge (" + p + ", " + q + ") is out of range");
+				uf.unify((int) p, (int) q);
+			}
+		}
+	}
+
+	//Turns roots into dense labels 0..k-1 and counts the size of every component
+	private static Result label(java.util.function.IntUnaryOperator find, int n) {
+		int[] labels = new int[n];
+		int[] rootLabel = new int[n];
+		java.util.Arrays.fill(rootLabel, -1);
+
+		IntArray sizes = new IntArray();
+		for(int v = 0; v < n; v++) {
+			int root = find.applyAsInt(v);
+			int c = rootLabel[root];
+			if(c == -1) {
+				c = rootLabel[root] = sizes.size();
+				sizes.add(0);
+			}
+			labels[v] = c;
+			sizes.set(c, sizes.get(c) + 1);
+		}
+		return new Result(labels, java.util.Arrays.copyOf(sizes.arr, sizes.size()));
+	}
+
+	// Example usage
+	public static void main(String[] args) throws IOException {
+
+		Path file = Files.createTempFile("edges", ".bin");
+		int n = 1000000, m = 2000000;
+		java.util.Random rnd = new java.util.Random(0);
+		try(FileChannel ch = FileChannel.open(file, StandardOpenOption.WRITE)) {
+			java.nio.ByteBuffer buf = java.nio.ByteBuffer.allocate(m * 8).order(ByteOrder.LITTLE_ENDIAN);
+			for(int i = 0; i < m; i++) buf.putInt(rnd.nextInt(n)).putInt(rnd.nextInt(n));
+			buf.flip();
+			while(buf.hasRemaining()) ch.write(buf);
+		}
+
+		long start = System.nanoTime();
+		Result single = compute(file, Format.INT_PAIRS, n);
+		long end = System.nanoTime();
+		System.out.println("1 thread Time: " + (end - start) / 1e9 + ", components: " + single.components());
+
+		int threads = Runtime.getRuntime().availableProcessors();
+		start = System.nanoTime();
+		Result multi = compute(file, Format.INT_PAIRS, n, threads);
+		end = System.nanoTime();
+		System.out.println(threads + " thread(s) Time: " + (end - start) / 1e9 + ", components: " + multi.components());
+
+		Files.delete(file);
+	}
+}
@@ -0,0 +1,227 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/*External sort for files of ints that are too big to sort in memory. Files are raw
+little endian int32 values with no header.
+
+It works in two phases:
+ 1. Run generation - the input is read runSize ints at a time into an IntArray, sorted
+    with IntArray.sort() and written out to a temporary "run" file. The run files are
+    tracked in a DynamicArray.
+ 2. k-way merge - one cursor per run reads through its own small buffer. The cursors
+    sit in an IntKeyedHeap keyed by their current value (the payload is the run index),
+    so picking the next output value is a primitive heap poll with no object per record.
+    If there are more runs than maxFanIn the runs are merged in several passes.
+Memory use is bounded by runSize ints during phase 1 and by (fan in + 1) buffers during
+phase 2, however big the file is*/
+public class ExternalIntSort {
+
+	private static final int DEFAULT_BUFFER_BYTES = 1 << 16;
+
+	private final int runSize;
+	private final int maxFanIn;
+	private final int bufferBytes;
+	private final Path tmpDir;
+
+	/*runSize - how many ints are sorted in memory at a time
+	  maxFanIn - the most runs merged together in one pass
+	  tmpDir - where the run files go, they are deleted once merged*/
+	public ExternalIntSort(int runSize, int maxFanIn, Path tmpDir) {
+		this(runSize, maxFanIn, DEFAULT_BUFFER_BYTES, tmpDir);
+	}
+
+	public ExternalIntSort(int runSize, int maxFanIn, int bufferBytes, Path tmpDir) {
+		if(runSize <= 0) throw new IllegalArgumentException("runSize <= 0 is not allowed");
+		if(maxFanIn < 2) throw new IllegalArgumentException("maxFanIn < 2 is not allowed");
+		if(bufferBytes < 4) throw new IllegalArgumentException("bufferBytes < 4 is not allowed");
+		this.runSize = runSize;
+		this.maxFanIn = maxFanIn;
+		this.bufferBytes = bufferBytes & ~3; //whole ints only
+		this.tmpDir = tmpDir;
+	}
+
+	//Sorts the ints in input and writes them to output
+	public void sort(Path input, Path output) throws IOException {
+		DynamicArray<Path> runs = generateRuns(input);
+
+		//Keep merging groups of maxFanIn runs until one pass can finish the job
+		while(runs.size() > maxFanIn) {
+			DynamicArray<Path> merged = new DynamicArray<>();
+			for(int i = 0; i < runs.size(); i += maxFanIn) {
+				DynamicArray<Path> group = new DynamicArray<>();
+				for(int j = i; j < Math.min(i + maxFanIn, runs.size()); j++) group.add(runs.get(j));
+				Path out = Files.createTempFile(tmpDir, "run", ".bin");
+				merge(group, out);
+				deleteAll(group);
+				merged.add(out);
+			}
+			runs = merged;
+		}
+
+		merge(runs, output);
+		deleteAll(runs);
+	}
+
+	//Phase 1: cut input into sorted runs of at most runSize ints
+	public DynamicArray<Path> generateRuns(Path input) throws IOException {
+		DynamicArray<Path> runs = new DynamicArray<>();
+		IntArray chunk = new IntArray(runSize + 1);
+
+		try(IntReader in = new IntReader(input, bufferBytes)) {
+			while(in.hasNext()) {
+				chunk.len = 0;
+				while(chunk.len < runSize && in.hasNext()) chunk.add(in.next());
+				chunk.sort();
+
+				Path run = Files.createTempFile(tmpDir, "run", ".bin");
+				try(IntWriter out = new IntWriter(run, bufferBytes)) {
+					for(int i = 0; i < chunk.len; i++) out.write(chunk.arr[i]);
+				}
+				runs.add(run);
+			}
+		}
+		return runs;
+	}
+
+	/*Phase 2: merges already sorted runs into output. Only one buffer per run plus the
+	output buffer is ever held in memory*/
+	public void merge(DynamicArray<Path> runs, Path output) throws IOException {
+		int k = runs.size();
+		IntReader[] cursors = new IntReader[k];
+		IntKeyedHeap heap = new IntKeyedHeap(k);
+
+		try(IntWriter out = new IntWriter(output, bufferBytes)) {
+			for(int r = 0; r < k; r++) {
+				cursors[r] = new IntReader(runs.get(r), bufferBytes);
+				if(cursors[r].hasNext()) heap.add(cursors[r].next(), r);
+			}
+
+			//Emit the smallest head, then refill the heap from the run it came from
+			while(!heap.isEmpty()) {
+				int value = heap.peekKey();
+				int r = heap.poll();
+				out.write(value);
+				if(cursors[r].hasNext()) heap.add(cursors[r].next(), r);
+			}
+		} finally {
+			for(IntReader c : cursors) if(c != null) c.close();
+		}
+	}
+
+	private static void deleteAll(DynamicArray<Path> paths) throws IOException {
+		for(Path p : paths) Files.deleteIfExists(p);
+	}
+
+	//Sequential reader of little endian ints through a buffered FileChannel
+	static final class IntReader implements AutoCloseable {
+		private final FileChannel ch;
+		private final ByteBuffer buf;
+		private boolean eof = false;
+
+		IntReader(Path path, int bufferBytes) throws IOException {
+			ch = FileChannel.open(path, StandardOpenOption.READ);
+			buf = ByteBuffer.allocateDirect(bufferBytes).order(ByteOrder.LITTLE_ENDIAN);
+			buf.flip(); //start out empty so the first hasNext() fills it
+		}
+
+		boolean hasNext() throws IOException {
+			if(buf.remaining() >= 4) return true;
+			if(eof) return false;
+
+			//Keep any partial int and read more after it
+			buf.compact();
+			while(buf.position() < 4) {
+				if(ch.read(buf) < 0) {
+					eof = true;
+					break;
+				}
+			}
+			buf.flip();
+			if(eof && buf.remaining() % 4 != 0) throw new IOException("File length is not a multiple of 4 bytes");
+			return buf.remaining() >= 4;
+		}
+
+		int next() {
+			return buf.getInt();
+		}
+
+		@Override
+		public void close() throws IOException {
+			ch.close();
+		}
+	}
+
+	//Sequential writer of little endian ints through a buffered FileChannel
+	static final class IntWriter implements AutoCloseable {
+		private final FileChannel ch;
+		private final ByteBuffer buf;
+
+		IntWriter(Path path, int bufferBytes) throws IOException {
+			ch = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+			buf = ByteBuffer.allocateDirect(bufferBytes).order(ByteOrder.LITTLE_ENDIAN);
+		}
+
+		void write(int value) throws IOException {
+			if(buf.remaining() < 4) flush();
+			buf.putInt(value);
+		}
+
+		private void flush() throws IOException {
+			buf.flip();
+			while(buf.hasRemaining()) ch.write(buf);
+			buf.clear();
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				flush();
+			} finally {
+				ch.close();
+			}
+		}
+	}
+
+	// Example usage
+	public static void main(String[] args) throws IOException {
+
+		Path dir = Files.createTempDirectory("extsort");
+		Path in = dir.resolve("in.bin");
+		Path out = dir.resolve("out.bin");
+
+		int n = 5000000;
+		java.util.Random rnd = new java.util.Random(0);
+		try(IntWriter w = new IntWriter(in, DEFAULT_BUFFER_BYTES)) {
+			for(int i = 0; i < n; i++) w.write(rnd.nextInt());
+		}
+
+		// 50 runs of 100k ints merged 16 at a time
+		long start = System.nanoTime();
+		new ExternalIntSort(100000, 16, dir).sort(in, out);
+		long end = System.nanoTime();
+		System.out.println("ExternalIntSort Time: " + (end - start) / 1e9);
+
+		int count = 0;
+		boolean sorted = true;
+		try(IntReader r = new IntReader(out, DEFAULT_BUFFER_BYTES)) {
+			int prev = Integer.MIN_VALUE;
+			while(r.hasNext()) {
+				int v = r.next();
+				if(v < prev) sorted = false;
+				prev = v;
+				count++;
+			}
+		}
+		System.out.println(count + " ints, sorted: " + sorted);
+
+		Files.delete(in);
+		Files.delete(out);
+		Files.delete(dir);
+	}
+}
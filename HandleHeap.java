@@ -0,0 +1,205 @@
+/*A min PQ implementation using a binary heap where add() hands back a Handle for the
+element. The handle records the slot the element currently occupies in the heap and is
+kept up to date every time the element moves. With it, removing an element or changing
+its priority is O(log(n)) with no linear scan and no hashtable, and so no equals() or
+hashCode() is needed on the elements. Two equal elements (or even the same object added
+twice) get two different handles, so removals always hit exactly the entry you meant*/
+@SuppressWarnings("unchecked")
+public class HandleHeap<T extends Comparable<T>> {
+
+	//A reference to an entry inside a particular heap
+	public static final class Handle<T> {
+		private T elem;
+
+		//Current slot of the entry in the heap array, -1 once it has left the heap
+		private int index;
+
+		//The heap this handle belongs to, so handles from other heaps get rejected
+		private HandleHeap<?> owner;
+
+		private Handle(T elem, int index, HandleHeap<?> owner) {
+			this.elem = elem;
+			this.index = index;
+			this.owner = owner;
+		}
+
+		public T get() {
+			return elem;
+		}
+
+		//true while the entry is still inside its heap
+		public boolean isActive() {
+			return index >= 0;
+		}
+
+		@Override
+		public String toString() {
+			return String.valueOf(elem);
+		}
+	}
+
+	private static final int DEFAULT_CAP = 1 << 4;
+
+	//The number of elements inside the heap
+	private int heapSize = 0;
+
+	private Handle<T>[] heap;
+
+	public HandleHeap() {
+		this(DEFAULT_CAP);
+	}
+
+	//Construct a priority queue with an initial capacity
+	public HandleHeap(int sz) {
+		if(sz < 0) throw new IllegalArgumentException("Illegal capacity: " + sz);
+		heap = (Handle<T>[]) new Handle<?>[Math.max(1, sz)];
+	}
+
+	//Returns true/false depending on if the priority queue is empty
+	public boolean isEmpty() {
+		return heapSize == 0;
+	}
+
+	//Return the size of the heap
+	public int size() {
+		return heapSize;
+	}
+
+	//Clears everything inside the heap and deactivates all handles, O(n)
+	public void clear() {
+		for(int i = 0; i < heapSize; i++) {
+			heap[i].index = -1;
+			heap[i].owner = null;
+			heap[i] = null;
+		}
+		heapSize = 0;
+	}
+
+	//Returns the element with the highest priority in this PQ, or null if it is empty
+	public T peek() {
+		if(isEmpty()) return null;
+		return heap[0].elem;
+	}
+
+	//Returns the handle of the element with the highest priority, or null if empty
+	public Handle<T> peekHandle() {
+		if(isEmpty()) return null;
+		return heap[0];
+	}
+
+	//Removes the root of the heap, O(log(n))
+	public T poll() {
+		if(isEmpty()) return null;
+		return removeAt(0);
+	}
+
+	//Test if the handle's entry is inside this heap, O(1)
+	public boolean contains(Handle<T> handle) {
+		return handle != null && handle.owner == this && handle.index >= 0;
+	}
+
+	//Adds an element and returns its handle. The element must not be null, O(log(n))
+	public Handle<T> add(T elem) {
+		if(elem == null) throw new IllegalArgumentException();
+		if(heapSize == heap.length) heap = java.util.Arrays.copyOf(heap, heapSize << 1);
+		Handle<T> handle = new Handle<>(elem, heapSize, this);
+		swim(heapSize++, handle);
+		return handle;
+	}
+
+	//Removes the entry behind the handle, O(log(n))
+	public T remove(Handle<T> handle) {
+		handleInHeapOrThrow(handle);
+		return removeAt(handle.index);
+	}
+
+	/*Re-establishes the heap order after the element behind the handle was changed in
+	place (e.g. a mutable priority field was updated), O(log(n))*/
+	public void changePriority(Handle<T> handle) {
+		handleInHeapOrThrow(handle);
+		fix(handle.index, handle);
+	}
+
+	//Replaces the element behind the handle with a new one, O(log(n))
+	public void changePriority(Handle<T> handle, T elem) {
+		if(elem == null) throw new IllegalArgumentException();
+		handleInHeapOrThrow(handle);
+		handle.elem = elem;
+		fix(handle.index, handle);
+	}
+
+	//Removes the entry at slot i and deactivates its handle, O(log(n))
+	private T removeAt(int i) {
+		Handle<T> removed = heap[i];
+		Handle<T> last = heap[--heapSize];
+		heap[heapSize] = null;
+
+		if(i != heapSize) fix(i, last);
+
+		removed.index = -1;
+		removed.owner = null;
+		return removed.elem;
+	}
+
+	//Places h in the hole at slot i and moves it whichever way it needs to go
+	private void fix(int i, Handle<T> h) {
+		if(i > 0 && h.elem.compareTo(heap[(i - 1) >>> 1].elem) < 0) swim(i, h);
+		else sink(i, h);
+	}
+
+	//Pull parents bigger than h down into the hole at k, then drop h in, O(log(n))
+	private void swim(int k, Handle<T> h) {
+		while(k > 0) {
+			int parent = (k - 1) >>> 1;
+			Handle<T> p = heap[parent];
+			if(h.elem.compareTo(p.elem) >= 0) break;
+			heap[k] = p;
+			p.index = k;
+			k = parent;
+		}
+		heap[k] = h;
+		h.index = k;
+	}
+
+	//Pull the smaller child up into the hole at k until h fits, then drop h in, O(log(n))
+	private void sink(int k, Handle<T> h) {
+		int half = heapSize >>> 1;
+		while(k < half) {
+			int child = 2 * k + 1;
+			int right = child + 1;
+			Handle<T> c = heap[child];
+			if(right < heapSize && heap[right].elem.compareTo(c.elem) < 0) c = heap[child = right];
+			if(h.elem.compareTo(c.elem) <= 0) break;
+			heap[k] = c;
+			c.index = k;
+			k = child;
+		}
+		heap[k] = h;
+		h.index = k;
+	}
+
+	private void handleInHeapOrThrow(Handle<T> handle) {
+		if(!contains(handle)) throw new IllegalArgumentException("Handle is not in this heap");
+	}
+
+	/*Recursively checks if this heap is a min heap and that every handle knows its own
+	slot. Just a testing method, call the method with k = 0 to start at the root*/
+	public boolean isMinHeap(int k) {
+		if(k >= heapSize) return true;
+		if(heap[k].index != k) return false;
+
+		int left = 2 * k + 1;
+		int right = 2 * k + 2;
+
+		if(left < heapSize && heap[k].elem.compareTo(heap[left].elem) > 0) return false;
+		if(right < heapSize && heap[k].elem.compareTo(heap[right].elem) > 0) return false;
+
+		return isMinHeap(left) && isMinHeap(right);
+	}
+
+	@Override
+	public String toString() {
+		return java.util.Arrays.toString(java.util.Arrays.copyOf(heap, heapSize));
+	}
+
+}
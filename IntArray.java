@@ -82,13 +82,10 @@ public class IntArray implements Iterable<Integer> {
 
   	//search and remove an element if it is found in the array
   	public boolean remove(int elem) {
-  		for(int i = 0; i<len; i++){
-  			if(arr[i] == elem) {
-  				removeAt(i);
-  				return true;
-  			}
-  		}
-  		return false;
+  		int i = indexOf(elem);
+  		if(i == -1) return false;
+  		removeAt(i);
+  		return true;
   	}
 
    // Reverse the contents of this array
@@ -108,31 +105,304 @@ public class IntArray implements Iterable<Integer> {
     return index;
   }
 
-  // Sort this array
+  // How sort() orders the array
+  public enum SortMode {
+    // Pick one of the modes below based on the size of the array
+    AUTO,
+    // Arrays.sort, single threaded dual pivot quicksort
+    SEQUENTIAL,
+    // Arrays.parallelSort, fork-join merge sort over all cores
+    PARALLEL,
+    // LSD radix sort, O(n) on one thread using a reusable scratch buffer
+    RADIX
+  }
+
+  // Below these sizes AUTO will not bother with radix or parallel sorting
+  private static final int RADIX_SORT_MIN = 1 << 12;
+  private static final int PARALLEL_SORT_MIN = 1 << 20;
+
+  private static final int RADIX_BITS = 11;
+  private static final int RADIX = 1 << RADIX_BITS;
+
+  // Scratch space for radix sorts, kept between calls so repeated sorts do not allocate
+  private int[] scratch, payloadScratch;
+  private int[] radixCounts;
+
+  /*Sort this array. Same as sort(SortMode.AUTO): no longer always Arrays.sort, from 4K
+  elements up it radix sorts (or parallel sorts on multicore machines from 1M up). The
+  temporary buffer AUTO needs is dropped again when the sort is done*/
   public void sort() {
-    java.util.Arrays.sort(arr, 0, len);
+    sort(SortMode.AUTO);
   }
 
-  // Iterator is still fast but not as fast as iterative for loop
-  @Override
-  public java.util.Iterator<Integer> iterator() {
-    return new java.util.Iterator<Integer>() {
+  /*Sort this array with a particular algorithm. An explicit RADIX keeps its scratch
+  buffers for the next sort, see releaseSortBuffers()*/
+  public void sort(SortMode mode) {
+    boolean auto = mode == SortMode.AUTO;
+    switch(auto ? autoSortMode() : mode) {
+      case PARALLEL:
+        java.util.Arrays.parallelSort(arr, 0, len);
+        break;
+      case RADIX:
+        // Only hold on to buffers an explicit radix sort asked for
+        boolean hadBuffers = scratch != null;
+        radixSort(null);
+        if (auto && !hadBuffers) releaseSortBuffers();
+        break;
+      default:
+        java.util.Arrays.sort(arr, 0, len);
+    }
+  }
+
+  private SortMode autoSortMode() {
+    if (len >= PARALLEL_SORT_MIN && java.util.concurrent.ForkJoinPool.getCommonPoolParallelism() > 1) return SortMode.PARALLEL;
+    if (len >= RADIX_SORT_MIN) return SortMode.RADIX;
+    return SortMode.SEQUENTIAL;
+  }
+
+  /*Sorts this array and applies the same permutation to payload[0, size()), so that
+  payload[i] still belongs with get(i) afterwards. Stable: equal keys keep the order of
+  their payloads. Uses the LSD radix sort, O(n)*/
+  public void sortWithPayload(int[] payload) {
+    if (payload == null || payload.length < len) throw new IllegalArgumentException("Payload must have at least " + len + " elements");
+    radixSort(payload);
+  }
+
+  // Lets go of the scratch buffers kept around by the radix sort
+  public void releaseSortBuffers() {
+    scratch = payloadScratch = radixCounts = null;
+  }
+
+  /*Stable LSD radix sort on RADIX_BITS bits per pass (3 passes for 32 bits). The sign
+  bit is flipped when digits are taken out so negative numbers sort first. Passes where
+  every element has the same digit are skipped. If payload is not null it is moved
+  along with the keys*/
+  private void radixSort(int[] payload) {
+    if (len < 2) return;
+
+    if (scratch == null || scratch.length < len) scratch = new int[len];
+    if (payload != null && (payloadScratch == null || payloadScratch.length < len)) payloadScratch = new int[len];
+    if (radixCounts == null) radixCounts = new int[RADIX];
+
+    int[] src = arr, dst = scratch;
+    int[] psrc = payload, pdst = payloadScratch;
+    int[] count = radixCounts;
+
+    for (int shift = 0; shift < 32; shift += RADIX_BITS) {
+      java.util.Arrays.fill(count, 0);
+      for (int i = 0; i < len; i++) count[digit(src[i], shift)]++;
+
+      // Skip the pass if all elements fall in the same bucket
+      if (count[digit(src[0], shift)] == len) continue;
+
+      // Turn the counts into start offsets
+      for (int d = 0, sum = 0; d < RADIX; d++) {
+        int c = count[d];
+        count[d] = sum;
+        sum += c;
+      }
+
+      for (int i = 0; i < len; i++) {
+        int pos = count[digit(src[i], shift)]++;
+        dst[pos] = src[i];
+        if (payload != null) pdst[pos] = psrc[i];
+      }
+
+      int[] tmp = src; src = dst; dst = tmp;
+      if (payload != null) { tmp = psrc; psrc = pdst; pdst = tmp; }
+    }
+
+    // An odd number of passes leaves the result in the scratch buffers
+    if (src != arr) {
+      System.arraycopy(src, 0, arr, 0, len);
+      scratch = src;
+    }
+    if (payload != null && psrc != payload) {
+      System.arraycopy(psrc, 0, payload, 0, len);
+      payloadScratch = psrc;
+    }
+  }
+
+  private static int digit(int x, int shift) {
+    return ((x ^ Integer.MIN_VALUE) >>> shift) & (RADIX - 1);
+  }
+
+  /*Bulk operations. These run on SIMD kernels from the Vector API when the
+  jdk.incubator.vector module and vector/VectorIntKernels are available, and on plain
+  scalar loops otherwise. See IntKernels*/
+  static final IntKernels KERNELS = loadKernels();
+
+  private static IntKernels loadKernels() {
+    if(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+      try {
+        return (IntKernels) Class.forName("VectorIntKernels").getDeclaredConstructor().newInstance();
+      } catch(ReflectiveOperationException | LinkageError e) {
+        // not compiled in, fall through to the scalar kernels
+      }
+    }
+    return new ScalarIntKernels();
+  }
+
+  // Returns true if the bulk operations are running on the Vector API
+  public static boolean isVectorized() {
+    return !(KERNELS instanceof ScalarIntKernels);
+  }
+
+  // Sum of all the elements, as a long so it can not overflow
+  public long sum() {
+    return KERNELS.sum(arr, 0, len);
+  }
+
+  // Smallest element, the array must not be empty
+  public int min() {
+    if(len == 0) throw new java.util.NoSuchElementException("Array is empty");
+    return KERNELS.min(arr, 0, len);
+  }
+
+  // Largest element, the array must not be empty
+  public int max() {
+    if(len == 0) throw new java.util.NoSuchElementException("Array is empty");
+    return KERNELS.max(arr, 0, len);
+  }
+
+  // Number of elements equal to value
+  public int count(int value) {
+    return KERNELS.count(arr, 0, len, value);
+  }
+
+  // Index of the first element equal to value, -1 if there is none
+  public int indexOf(int value) {
+    return KERNELS.indexOf(arr, 0, len, value);
+  }
+
+  public boolean contains(int value) {
+    return indexOf(value) != -1;
+  }
+
+  // Sets the elements in [from, to) to value
+  public void fill(int from, int to, int value) {
+    if(from < 0 || to > len || from > to) throw new IndexOutOfBoundsException();
+    KERNELS.fill(arr, from, to, value);
+  }
+
+  // Adds other to this array element by element, both must be the same size
+  public void add(IntArray other) {
+    if(other.len != len) throw new IllegalArgumentException("Sizes differ: " + len + " vs " + other.len);
+    KERNELS.add(arr, other.arr, len);
+  }
+
+  /*Returns a bitmask of the elements that compare to value with op: bit i (bit i % 64
+  of long i / 64) is set when get(i) op value holds*/
+  public long[] filter(IntKernels.Cmp op, int value) {
+    return KERNELS.filter(arr, 0, len, op, value);
+  }
+
+  // Same as above for an arbitrary predicate, always a scalar loop
+  public long[] filter(java.util.function.IntPredicate predicate) {
+    long[] bits = new long[(len + 63) >>> 6];
+    for (int i = 0; i < len; i++) if(predicate.test(arr[i])) bits[i >>> 6] |= 1L << i;
+    return bits;
+  }
+
+  /*Binary file format used by save()/load() and MappedIntArray, all little endian:
+  MAGIC (int), 0 (int, keeps the data 8 byte aligned), size (long), then the ints*/
+  static final int FILE_MAGIC = 0x41544e49; // "INTA" when read as little endian bytes
+  static final int FILE_HEADER_BYTES = 16;
+  private static final int IO_BUFFER_BYTES = 1 << 20;
+
+  // Writes the elements to a file in the binary format above
+  public void save(java.nio.file.Path file) throws java.io.IOException {
+    try (java.nio.channels.FileChannel ch = java.nio.channels.FileChannel.open(file,
+        java.nio.file.StandardOpenOption.WRITE, java.nio.file.StandardOpenOption.CREATE,
+        java.nio.file.StandardOpenOption.TRUNCATE_EXISTING)) {
+      java.nio.ByteBuffer buf = java.nio.ByteBuffer.allocateDirect(IO_BUFFER_BYTES).order(java.nio.ByteOrder.LITTLE_ENDIAN);
+      buf.putInt(FILE_MAGIC).putInt(0).putLong(len);
+
+      // Bulk copy the ints through an IntBuffer view, a buffer full at a time
+      for (int i = 0; i < len; ) {
+        int n = Math.min(len - i, buf.remaining() / Integer.BYTES);
+        buf.asIntBuffer().put(arr, i, n);
+        buf.position(buf.position() + n * Integer.BYTES);
+        i += n;
+        buf.flip();
+        while (buf.hasRemaining()) ch.write(buf);
+        buf.clear();
+      }
+      buf.flip();
+      while (buf.hasRemaining()) ch.write(buf);
+    }
+  }
+
+  // Reads a file written by save() back into a new IntArray
+  public static IntArray load(java.nio.file.Path file) throws java.io.IOException {
+    try (java.nio.channels.FileChannel ch = java.nio.channels.FileChannel.open(file, java.nio.file.StandardOpenOption.READ)) {
+      long size = readFileHeader(ch);
+      if (size > Integer.MAX_VALUE - 8) throw new java.io.IOException("Too many elements for an IntArray: " + size + ", use MappedIntArray");
+
+      IntArray ar = new IntArray((int) size + 1);
+      java.nio.ByteBuffer buf = java.nio.ByteBuffer.allocateDirect(IO_BUFFER_BYTES).order(java.nio.ByteOrder.LITTLE_ENDIAN);
+      long pos = FILE_HEADER_BYTES;
+      while (ar.len < size) {
+        buf.clear();
+        buf.limit((int) Math.min(buf.capacity(), (size - ar.len) * Integer.BYTES));
+        while (buf.hasRemaining()) {
+          int read = ch.read(buf, pos);
+          if (read < 0) throw new java.io.EOFException("File is shorter than its header says");
+          pos += read;
+        }
+        buf.flip();
+        int n = buf.remaining() / Integer.BYTES;
+        buf.asIntBuffer().get(ar.arr, ar.len, n);
+        ar.len += n;
+      }
+      return ar;
+    }
+  }
+
+  // Checks the header of a saved IntArray file and returns the number of elements
+  static long readFileHeader(java.nio.channels.FileChannel ch) throws java.io.IOException {
+    java.nio.ByteBuffer hdr = java.nio.ByteBuffer.allocate(FILE_HEADER_BYTES).order(java.nio.ByteOrder.LITTLE_ENDIAN);
+    while (hdr.hasRemaining()) if (ch.read(hdr, hdr.position()) < 0) throw new java.io.EOFException("File too short");
+    if (hdr.getInt(0) != FILE_MAGIC) throw new java.io.IOException("Not an IntArray file");
+    long size = hdr.getLong(8);
+    if (size < 0 || ch.size() < FILE_HEADER_BYTES + size * Integer.BYTES) throw new java.io.IOException("Corrupt IntArray file");
+    return size;
+  }
+
+  // Iterate without boxing through nextInt()
+  public java.util.PrimitiveIterator.OfInt primitiveIterator() {
+    return new java.util.PrimitiveIterator.OfInt() {
       int index = 0;
 
       public boolean hasNext() {
         return index < len;
       }
 
-      public Integer next() {
+      public int nextInt() {
+        if (index >= len) throw new java.util.NoSuchElementException();
         return arr[index++];
       }
-
-      public void remove() {
-        throw new UnsupportedOperationException();
-      }
     };
   }
 
+  // Iterator is still fast but not as fast as iterative for loop. next() boxes, nextInt() does not
+  @Override
+  public java.util.PrimitiveIterator.OfInt iterator() {
+    return primitiveIterator();
+  }
+
+  /*Splits exactly in half over the backing array (SIZED and SUBSIZED), so parallel
+  streams get balanced work. Covers the elements present when it is created*/
+  @Override
+  public java.util.Spliterator.OfInt spliterator() {
+    return java.util.Spliterators.spliterator(arr, 0, len, java.util.Spliterator.ORDERED);
+  }
+
+  // Stream over the elements without boxing, call parallel() on it to use every core
+  public java.util.stream.IntStream intStream() {
+    return java.util.stream.StreamSupport.intStream(spliterator(), false);
+  }
+
   @Override
   public String toString() {
     if (len == 0) return "[]";
@@ -161,6 +431,38 @@ public class IntArray implements Iterable<Integer> {
 
     // Prints [-2, 3, 6, 7]
     System.out.println(ar);
+
+    benchMarkTest();
+  }
+
+  /*BenchMark the bulk kernels in use (vector or scalar) against the scalar ones from 1K
+  to 100M elements. Run with --add-modules jdk.incubator.vector and vector/ compiled in
+  to see the SIMD numbers, and a big enough heap (-Xmx1g) for 100M*/
+  private static void benchMarkTest() {
+
+    IntKernels scalar = new ScalarIntKernels();
+    System.out.println("Vectorized: " + isVectorized());
+
+    java.util.Random rnd = new java.util.Random(0);
+    for (int n = 1000; n <= 100000000; n *= 10) {
+      int[] a = new int[n];
+      for (int i = 0; i < n; i++) a[i] = rnd.nextInt(1000);
+      int reps = Math.max(1, 100000000 / n);
+
+      long sink = 0;
+      long start = System.nanoTime();
+      for (int r = 0; r < reps; r++) sink += scalar.sum(a, 0, n) + scalar.count(a, 0, n, 7) + scalar.max(a, 0, n) + scalar.indexOf(a, 0, n, -1);
+      long end = System.nanoTime();
+      double scalarTime = (end - start) / 1e9 / reps;
+
+      start = System.nanoTime();
+      for (int r = 0; r < reps; r++) sink -= KERNELS.sum(a, 0, n) + KERNELS.count(a, 0, n, 7) + KERNELS.max(a, 0, n) + KERNELS.indexOf(a, 0, n, -1);
+      end = System.nanoTime();
+      double kernelTime = (end - start) / 1e9 / reps;
+
+      System.out.println(n + " elements - scalar Time: " + scalarTime + ", kernels Time: " + kernelTime +
+        ", speedup: " + (scalarTime / kernelTime) + (sink != 0 ? " (mismatch!)" : ""));
+    }
   }
 
 }
\ No newline at end of file
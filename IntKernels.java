@@ -0,0 +1,30 @@
+/*Bulk kernels IntArray runs over the range [from, to) of its backing array. There are
+two implementations: ScalarIntKernels (plain loops, always there) and VectorIntKernels
+(jdk.incubator.vector SIMD, see vector/VectorIntKernels.java). IntArray picks the
+vector one at startup when it can be loaded and falls back to the scalar one otherwise*/
+interface IntKernels {
+
+	//Comparisons the bitmask filter supports
+	enum Cmp { LT, LE, GT, GE, EQ, NE }
+
+	long sum(int[] a, int from, int to);
+
+	int min(int[] a, int from, int to);
+
+	int max(int[] a, int from, int to);
+
+	//Number of elements equal to value
+	int count(int[] a, int from, int to, int value);
+
+	//Index of the first element equal to value, or -1
+	int indexOf(int[] a, int from, int to, int value);
+
+	void fill(int[] a, int from, int to, int value);
+
+	//dst[i] += src[i] for i in [0, len)
+	void add(int[] dst, int[] src, int len);
+
+	/*Bit (i - from) of the result is set when a[i] op value holds. The bits are packed
+	64 to a long, lowest bit first*/
+	long[] filter(int[] a, int from, int to, Cmp op, int value);
+}
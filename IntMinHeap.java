@@ -0,0 +1,138 @@
+/*A min PQ specialized on primitive int keys, the same way IntStack and IntQueue
+specialize Stack and Queue. Keys live directly in an int array so there is no boxing
+and comparisons are plain '<' instead of a virtual compareTo call. Sink and swim move
+a hole through the tree and write the moving key once at the end*/
+public class IntMinHeap {
+
+	private static final int DEFAULT_CAP = 1 << 4;
+
+	private int[] heap;
+	private int heapSize = 0;
+
+	public IntMinHeap() {
+		this(DEFAULT_CAP);
+	}
+
+	//Construct a priority queue with an initial capacity, it grows as needed
+	public IntMinHeap(int capacity) {
+		if(capacity < 0) throw new IllegalArgumentException("Illegal capacity: " + capacity);
+		heap = new int[Math.max(1, capacity)];
+	}
+
+	//Construct a priority queue from an array of keys using heapify in O(n) time
+	public IntMinHeap(int[] keys) {
+		this(keys.length);
+		System.arraycopy(keys, 0, heap, 0, keys.length);
+		heapSize = keys.length;
+		for(int i = (heapSize >>> 1) - 1; i >= 0; i--) sink(i, heap[i]);
+	}
+
+	// Returns the number of elements inside the heap
+	public int size() {
+		return heapSize;
+	}
+
+	// Returns true/false on whether the heap is empty
+	public boolean isEmpty() {
+		return heapSize == 0;
+	}
+
+	public void clear() {
+		heapSize = 0;
+	}
+
+	// Returns the smallest key, make sure the heap is not empty first!
+	public int peek() {
+		if(isEmpty()) throw new RuntimeException("Heap Is Empty");
+		return heap[0];
+	}
+
+	// Add a key to the heap, O(log(n))
+	public void add(int key) {
+		if(heapSize == heap.length) heap = java.util.Arrays.copyOf(heap, heapSize << 1);
+		swim(heapSize++, key);
+	}
+
+	// Remove and return the smallest key, O(log(n))
+	public int poll() {
+		int min = peek();
+		if(--heapSize > 0) sink(0, heap[heapSize]);
+		return min;
+	}
+
+	//Pull parents bigger than key down into the hole at k, then drop key in
+	private void swim(int k, int key) {
+		while(k > 0) {
+			int parent = (k - 1) >>> 1;
+			if(key >= heap[parent]) break;
+			heap[k] = heap[parent];
+			k = parent;
+		}
+		heap[k] = key;
+	}
+
+	//Pull the smaller child up into the hole at k until key fits, then drop key in
+	private void sink(int k, int key) {
+		int half = heapSize >>> 1; //nodes at or past half have no children
+		while(k < half) {
+			int child = 2 * k + 1;
+			int right = child + 1;
+			if(right < heapSize && heap[right] < heap[child]) child = right;
+			if(key <= heap[child]) break;
+			heap[k] = heap[child];
+			k = child;
+		}
+		heap[k] = key;
+	}
+
+	// Testing method to make sure the heap invariant holds, call with k = 0
+	public boolean isMinHeap(int k) {
+		if(k >= heapSize) return true;
+		int left = 2 * k + 1, right = 2 * k + 2;
+		if(left < heapSize && heap[left] < heap[k]) return false;
+		if(right < heapSize && heap[right] < heap[k]) return false;
+		return isMinHeap(left) && isMinHeap(right);
+	}
+
+	@Override
+	public String toString() {
+		return java.util.Arrays.toString(java.util.Arrays.copyOf(heap, heapSize));
+	}
+
+	// Example usage
+	public static void main(String[] args) {
+
+		IntMinHeap pq = new IntMinHeap();
+		pq.add(5);
+		pq.add(-2);
+		pq.add(9);
+		pq.add(3);
+
+		while(!pq.isEmpty()) System.out.println(pq.poll()); // -2, 3, 5, 9
+
+		benchMarkTest();
+	}
+
+	// BenchMark IntMinHeap vs BinaryHeap<Integer>.
+	private static void benchMarkTest() {
+
+		int n = 2000000;
+		java.util.Random rnd = new java.util.Random(0);
+		int[] keys = new int[n];
+		for(int i = 0; i < n; i++) keys[i] = rnd.nextInt();
+
+		IntMinHeap intHeap = new IntMinHeap(n);
+		long start = System.nanoTime();
+		for(int i = 0; i < n; i++) intHeap.add(keys[i]);
+		for(int i = 0; i < n; i++) intHeap.poll();
+		long end = System.nanoTime();
+		System.out.println("IntMinHeap Time: " + (end - start) / 1e9);
+
+		BinaryHeap<Integer> binaryHeap = new BinaryHeap<>(n);
+		start = System.nanoTime();
+		for(int i = 0; i < n; i++) binaryHeap.add(keys[i]);
+		for(int i = 0; i < n; i++) binaryHeap.poll();
+		end = System.nanoTime();
+		System.out.println("BinaryHeap<Integer> Time: " + (end - start) / 1e9);
+	}
+}
@@ -0,0 +1,137 @@
+/*A union find over arbitrary keys instead of the dense ints [0, n) UnionFind needs.
+Keys are mapped to dense ids with an open addressing hash table made of two parallel
+arrays (the keys and their ids) with linear probing, so there is no Entry object per
+key and no boxed Integer ids. Once a key has its id every operation is handed to the
+int based UnionFind. New keys are added on the fly with UnionFind.makeSet()*/
+@SuppressWarnings("unchecked")
+public class KeyedUnionFind<T> {
+
+	private static final int DEFAULT_CAP = 1 << 4;
+
+	//The table is resized once it is more than half full
+	private static final int MAX_LOAD_SHIFT = 1;
+
+	private final UnionFind uf = new UnionFind();
+
+	//Open addressing table, slot s holds keys[s] whose id is ids[s]. ids[s] = -1 is empty
+	private Object[] keys;
+	private int[] ids;
+	private int mask;
+
+	//Reverse mapping, byId[id] is the key that was given that id
+	private Object[] byId;
+
+	public KeyedUnionFind() {
+		this(DEFAULT_CAP);
+	}
+
+	//Construct a union find expecting about 'expected' keys
+	public KeyedUnionFind(int expected) {
+		if(expected < 0) throw new IllegalArgumentException("Illegal capacity: " + expected);
+		int cap = Integer.highestOneBit(Math.max(2, expected) << MAX_LOAD_SHIFT) << 1;
+		keys = new Object[cap];
+		ids = new int[cap];
+		java.util.Arrays.fill(ids, -1);
+		mask = cap - 1;
+		byId = new Object[Math.max(1, expected)];
+	}
+
+	//Return the number of keys in this union find
+	public int size() {
+		return uf.size();
+	}
+
+	//Returns the number of remaining components/sets
+	public int components() {
+		return uf.components();
+	}
+
+	//Returns the dense id of a key, or -1 if the key was never added
+	public int idOf(T key) {
+		if(key == null) throw new IllegalArgumentException("Key cannot be null");
+		for(int s = slot(key.hashCode()); ; s = (s + 1) & mask) {
+			int id = ids[s];
+			if(id == -1) return -1;
+			if(key.equals(keys[s])) return id;
+		}
+	}
+
+	//Returns the key that was given the dense id
+	public T keyOf(int id) {
+		if(id < 0 || id >= size()) throw new IllegalArgumentException("Unknown id: " + id);
+		return (T) byId[id];
+	}
+
+	//Adds the key as a component of its own if it is new. Returns its id either way
+	public int add(T key) {
+		if(key == null) throw new IllegalArgumentException("Key cannot be null");
+		int s = slot(key.hashCode());
+		for(; ids[s] != -1; s = (s + 1) & mask) if(key.equals(keys[s])) return ids[s];
+
+		int id = uf.makeSet();
+		keys[s] = key;
+		ids[s] = id;
+		if(id == byId.length) byId = java.util.Arrays.copyOf(byId, id << 1);
+		byId[id] = key;
+		if((id + 1) << MAX_LOAD_SHIFT > mask) rehash();
+		return id;
+	}
+
+	public boolean contains(T key) {
+		return idOf(key) != -1;
+	}
+
+	//Returns the key at the root of the component the key belongs to
+	public T find(T key) {
+		return (T) byId[uf.find(idOrThrow(key))];
+	}
+
+	/*Return whether or not 'p' and 'q' are in the same component/set. A key that was
+	never added is only connected to itself*/
+	public boolean connected(T p, T q) {
+		int i = idOf(p), j = idOf(q);
+		if(i == -1 || j == -1) return p.equals(q);
+		return uf.connected(i, j);
+	}
+
+	//Return the size of the component/set 'p' belongs to
+	public int componentSize(T p) {
+		return uf.componentSize(idOrThrow(p));
+	}
+
+	//Unify the components/sets containing 'p' and 'q', adding the keys if they are new
+	public void unify(T p, T q) {
+		uf.unify(add(p), add(q));
+	}
+
+	private int idOrThrow(T key) {
+		int id = idOf(key);
+		if(id == -1) throw new IllegalArgumentException("Unknown key: " + key);
+		return id;
+	}
+
+	//Spread the hash code (Fibonacci hashing) and turn it into a table slot
+	private int slot(int h) {
+		h *= 0x9E3779B9;
+		return (h ^ (h >>> 16)) & mask;
+	}
+
+	//Double the table and put every key back, the ids do not change
+	private void rehash() {
+		Object[] oldKeys = keys;
+		int[] oldIds = ids;
+		keys = new Object[oldKeys.length << 1];
+		ids = new int[oldIds.length << 1];
+		java.util.Arrays.fill(ids, -1);
+		mask = keys.length - 1;
+
+		for(int i = 0; i < oldKeys.length; i++) {
+			if(oldIds[i] == -1) continue;
+			int s = slot(oldKeys[i].hashCode());
+			while(ids[s] != -1) s = (s + 1) & mask;
+			keys[s] = oldKeys[i];
+			ids[s] = oldIds[i];
+		}
+	}
+
+}
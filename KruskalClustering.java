@@ -0,0 +1,282 @@
+/*Kruskal's minimum spanning tree / single linkage clustering on top of UnionFind.
+
+Edges come in as primitive parallel arrays: edge e joins u[e] and v[e] with weight
+w[e]. Instead of sorting edge objects, each weight is turned into a long whose unsigned
+order matches the order of the doubles and the edge indexes are LSD radix sorted by that
+key, 11 bits per pass, O(m). In the parallel modes every radix pass counts and scatters
+chunks of the edges on the fork-join pool.
+
+Edges are then fed to UnionFind.unify() from light to heavy. Kruskal can stop early:
+ - once only k components are left (k = 1 gives the whole spanning forest), which is
+   single linkage clustering into k clusters
+ - at a weight threshold, edges heavier than maxWeight are dropped before sorting.
+
+Mode.FILTER runs filter-Kruskal, which pays off on big dense edge sets where most
+heavy edges end up joining vertices that are already connected: edges are split around
+a pivot weight, the light part is processed first (recursively), then the heavy part
+is filtered down to the edges that still join two different components and only those
+get sorted*/
+public class KruskalClustering {
+
+	public enum Mode {
+		//Radix sort on one thread
+		SORT,
+		//Radix sort with every pass split over the fork-join pool
+		PARALLEL_SORT,
+		//Filter-Kruskal, with parallel radix sorts for the pieces that do get sorted
+		FILTER
+	}
+
+	public static final class Result {
+		//Indexes of the edges that were taken, in the order Kruskal took them
+		public final int[] edges;
+
+		//Sum of the weights of the edges taken
+		public final double totalWeight;
+
+		//labels[x] is the cluster of vertex x, in the range [0, components())
+		public final int[] labels;
+
+		private final int components;
+
+		Result(int[] edges, double totalWeight, int[] labels, int components) {
+			this.edges = edges;
+			this.totalWeight = totalWeight;
+			this.labels = labels;
+			this.components = components;
+		}
+
+		public int components() {
+			return components;
+		}
+	}
+
+	private static final int RADIX_BITS = 11;
+	private static final int RADIX = 1 << RADIX_BITS;
+	private static final int RADIX_MASK = RADIX - 1;
+
+	//Pieces of filter-Kruskal smaller than this are sorted straight away
+	private static final int FILTER_BASE = 1 << 12;
+
+	//Parallel radix passes only pay off for big inputs
+	private static final int PARALLEL_MIN = 1 << 16;
+
+	private final UnionFind uf;
+	private final int[] u, v;
+	private final double[] w;
+	private final long[] key;
+	private final int k;
+	private final boolean parallel;
+
+	private final IntArray taken = new IntArray();
+	private double totalWeight = 0;
+
+	private KruskalClustering(int n, int[] u, int[] v, double[] w, int k, boolean parallel) {
+		this.uf = new UnionFind(n);
+		this.u = u;
+		this.v = v;
+		this.w = w;
+		this.k = k;
+		this.parallel = parallel;
+		key = new long[w.length];
+	}
+
+	//Minimum spanning forest of the n vertices
+	public static Result mst(int n, int[] u, int[] v, double[] w) {
+		return run(n, u, v, w, 1, Double.POSITIVE_INFINITY, Mode.SORT);
+	}
+
+	//Single linkage clustering of the n vertices into (at least) k clusters
+	public static Result cluster(int n, int[] u, int[] v, double[] w, int k) {
+		return run(n, u, v, w, k, Double.POSITIVE_INFINITY, Mode.SORT);
+	}
+
+	/*Runs Kruskal until k components are left or the edges up to maxWeight are used up,
+	whichever comes first*/
+	public static Result run(int n, int[] u, int[] v, double[] w, int k, double maxWeight, Mode mode) {
+		if(u.length != v.length || u.length != w.length) throw new IllegalArgumentException("u, v and w must have the same length");
+		if(k <= 0) throw new IllegalArgumentException("k <= 0 is not allowed");
+
+		KruskalClustering kc = new KruskalClustering(n, u, v, w, k, mode != Mode.SORT);
+
+		//Drop the edges over the threshold before anything gets sorted
+		int m = 0;
+		int[] idx = new int[w.length];
+		for(int e = 0; e < w.length; e++) {
+			if(Double.isNaN(w[e])) throw new IllegalArgumentException("Edge " + e + " has a NaN weight");
+			if(u[e] < 0 || u[e] >= n || v[e] < 0 || v[e] >= n) throw new IllegalArgumentException("Edge " + e + " is out of range");
+			if(w[e] > maxWeight) continue;
+			kc.key[e] = sortableKey(w[e]);
+			idx[m++] = e;
+		}
+
+		if(mode == Mode.FILTER) kc.filterKruskal(idx, 0, m);
+		else {
+			kc.sort(idx, 0, m);
+			kc.kruskal(idx, 0, m);
+		}
+
+		return new Result(java.util.Arrays.copyOf(kc.taken.arr, kc.taken.size()), kc.totalWeight,
+			kc.uf.labels(), kc.uf.components());
+	}
+
+	//Flip the bits of a double so that its order as an unsigned long matches its value
+	private static long sortableKey(double d) {
+		long bits = Double.doubleToLongBits(d + 0.0); //+0.0 turns -0.0 into 0.0
+		return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+	}
+
+	private boolean done() {
+		return uf.components() <= k;
+	}
+
+	//Plain Kruskal over idx[lo, hi) which is already sorted by weight
+	private void kruskal(int[] idx, int lo, int hi) {
+		for(int i = lo; i < hi && !done(); i++) {
+			int e = idx[i];
+			if(uf.find(u[e]) == uf.find(v[e])) continue;
+			uf.unify(u[e], v[e]);
+			taken.add(e);
+			totalWeight += w[e];
+		}
+	}
+
+	private void filterKruskal(int[] idx, int lo, int hi) {
+		if(done() || lo >= hi) return;
+
+		if(hi - lo <= FILTER_BASE) {
+			sort(idx, lo, hi);
+			kruskal(idx, lo, hi);
+			return;
+		}
+
+		//Three way partition around a random pivot: [lo, lt) lighter, [lt, gt) equal, [gt, hi) heavier
+		long pivot = key[idx[lo + java.util.concurrent.ThreadLocalRandom.current().nextInt(hi - lo)]];
+		int lt = lo, i = lo, gt = hi;
+		while(i < gt) {
+			long c = key[idx[i]];
+			if(Long.compareUnsigned(c, pivot) < 0) swap(idx, lt++, i++);
+			else if(Long.compareUnsigned(c, pivot) > 0) swap(idx, i, --gt);
+			else i++;
+		}
+
+		filterKruskal(idx, lo, lt);
+
+		//Equal weights can go in any order
+		kruskal(idx, lt, gt);
+
+		//Only keep the heavy edges that still join two different components
+		int keep = gt;
+		for(int j = gt; j < hi && !done(); j++) {
+			int e = idx[j];
+			if(uf.find(u[e]) != uf.find(v[e])) idx[keep++] = e;
+		}
+		filterKruskal(idx, gt, keep);
+	}
+
+	private static void swap(int[] a, int i, int j) {
+		int tmp = a[i];
+		a[i] = a[j];
+		a[j] = tmp;
+	}
+
+	/*Stable LSD radix sort of idx[lo, hi) by key, RADIX_BITS bits per pass. Passes where
+	every key has the same digit are skipped*/
+	private void sort(int[] idx, int lo, int hi) {
+		int n = hi - lo;
+		if(n < 2) return;
+
+		boolean par = parallel && n >= PARALLEL_MIN;
+		int chunks = par ? Math.max(1, Math.min(64, java.util.concurrent.ForkJoinPool.getCommonPoolParallelism() * 4)) : 1;
+		int chunkSize = (n + chunks - 1) / chunks;
+
+		int[] src = java.util.Arrays.copyOfRange(idx, lo, hi);
+		int[] dst = new int[n];
+		int[][] counts = new int[chunks][RADIX];
+
+		for(int shift = 0; shift < 64; shift += RADIX_BITS) {
+			final int sh = shift;
+			final int[] from = src, to = dst;
+
+			//Count the digits of every chunk
+			forEachChunk(chunks, par, c -> {
+				int[] cnt = counts[c];
+				java.util.Arrays.fill(cnt, 0);
+				for(int i = c * chunkSize, end = Math.min(n, i + chunkSize); i < end; i++) {
+					cnt[(int) (key[from[i]] >>> sh) & RADIX_MASK]++;
+				}
+			});
+
+			//Turn the counts into start offsets, digit major then chunk so the sort stays stable
+			int sum = 0, used = 0;
+			for(int d = 0; d < RADIX; d++) {
+				int before = sum;
+				for(int c = 0; c < chunks; c++) {
+					int cnt = counts[c][d];
+					counts[c][d] = sum;
+					sum += cnt;
+				}
+				if(sum != before) used++;
+			}
+			if(used == 1) continue; //every key has the same digit here
+
+			//Scatter every chunk to its slots
+			forEachChunk(chunks, par, c -> {
+				int[] pos = counts[c];
+				for(int i = c * chunkSize, end = Math.min(n, i + chunkSize); i < end; i++) {
+					int e = from[i];
+					to[pos[(int) (key[e] >>> sh) & RADIX_MASK]++] = e;
+				}
+			});
+
+			src = to;
+			dst = from;
+		}
+
+		System.arraycopy(src, 0, idx, lo, n);
+	}
+
+	private static void forEachChunk(int chunks, boolean par, java.util.function.IntConsumer body) {
+		java.util.stream.IntStream range = java.util.stream.IntStream.range(0, chunks);
+		if(par) range = range.parallel();
+		range.forEach(body);
+	}
+
+	// Example usage
+	public static void main(String[] args) {
+
+		// Two triangles joined by a heavy edge
+		int[] u = {0, 1, 2, 3, 4, 5, 2};
+		int[] v = {1, 2, 0, 4, 5, 3, 3};
+		double[] w = {1, 2, 3, 1, 2, 3, 10};
+
+		Result mst = KruskalClustering.mst(6, u, v, w);
+		System.out.println(mst.totalWeight); // 16.0
+
+		Result clusters = KruskalClustering.cluster(6, u, v, w, 2);
+		System.out.println(java.util.Arrays.toString(clusters.labels)); // [0, 0, 0, 1, 1, 1]
+
+		benchMarkTest();
+	}
+
+	// BenchMark the three modes on a random graph.
+	private static void benchMarkTest() {
+
+		int n = 1000000, m = 10000000;
+		java.util.Random rnd = new java.util.Random(0);
+		int[] u = new int[m], v = new int[m];
+		double[] w = new double[m];
+		for(int i = 0; i < m; i++) {
+			u[i] = rnd.nextInt(n);
+			v[i] = rnd.nextInt(n);
+			w[i] = rnd.nextDouble();
+		}
+
+		for(Mode mode : Mode.values()) {
+			long start = System.nanoTime();
+			Result r = run(n, u, v, w, 1, Double.POSITIVE_INFINITY, mode);
+			long end = System.nanoTime();
+			System.out.println(mode + " Time: " + (end - start) / 1e9 + ", weight: " + r.totalWeight);
+		}
+	}
+}
@@ -0,0 +1,132 @@
+/*KeyedUnionFind specialized on primitive long keys, for numeric ids that are not dense.
+The keys sit in a long array next to their int ids, so nothing gets boxed*/
+public class LongKeyedUnionFind {
+
+	private static final int DEFAULT_CAP = 1 << 4;
+
+	//The table is resized once it is more than half full
+	private static final int MAX_LOAD_SHIFT = 1;
+
+	private final UnionFind uf = new UnionFind();
+
+	//Open addressing table, slot s holds keys[s] whose id is ids[s]. ids[s] = -1 is empty
+	private long[] keys;
+	private int[] ids;
+	private int mask;
+
+	//Reverse mapping, byId[id] is the key that was given that id
+	private long[] byId;
+
+	public LongKeyedUnionFind() {
+		this(DEFAULT_CAP);
+	}
+
+	//Construct a union find expecting about 'expected' keys
+	public LongKeyedUnionFind(int expected) {
+		if(expected < 0) throw new IllegalArgumentException("Illegal capacity: " + expected);
+		int cap = Integer.highestOneBit(Math.max(2, expected) << MAX_LOAD_SHIFT) << 1;
+		keys = new long[cap];
+		ids = new int[cap];
+		java.util.Arrays.fill(ids, -1);
+		mask = cap - 1;
+		byId = new long[Math.max(1, expected)];
+	}
+
+	//Return the number of keys in this union find
+	public int size() {
+		return uf.size();
+	}
+
+	//Returns the number of remaining components/sets
+	public int components() {
+		return uf.components();
+	}
+
+	//Returns the dense id of a key, or -1 if the key was never added
+	public int idOf(long key) {
+		for(int s = slot(key); ; s = (s + 1) & mask) {
+			int id = ids[s];
+			if(id == -1) return -1;
+			if(keys[s] == key) return id;
+		}
+	}
+
+	//Returns the key that was given the dense id
+	public long keyOf(int id) {
+		if(id < 0 || id >= size()) throw new IllegalArgumentException("Unknown id: " + id);
+		return byId[id];
+	}
+
+	//Adds the key as a component of its own if it is new. Returns its id either way
+	public int add(long key) {
+		int s = slot(key);
+		for(; ids[s] != -1; s = (s + 1) & mask) if(keys[s] == key) return ids[s];
+
+		int id = uf.makeSet();
+		keys[s] = key;
+		ids[s] = id;
+		if(id == byId.length) byId = java.util.Arrays.copyOf(byId, id << 1);
+		byId[id] = key;
+		if((id + 1) << MAX_LOAD_SHIFT > mask) rehash();
+		return id;
+	}
+
+	public boolean contains(long key) {
+		return idOf(key) != -1;
+	}
+
+	//Returns the key at the root of the component the key belongs to
+	public long find(long key) {
+		return byId[uf.find(idOrThrow(key))];
+	}
+
+	/*Return whether or not 'p' and 'q' are in the same component/set. A key that was
+	never added is only connected to itself*/
+	public boolean connected(long p, long q) {
+		int i = idOf(p), j = idOf(q);
+		if(i == -1 || j == -1) return p == q;
+		return uf.connected(i, j);
+	}
+
+	//Return the size of the component/set 'p' belongs to
+	public int componentSize(long p) {
+		return uf.componentSize(idOrThrow(p));
+	}
+
+	//Unify the components/sets containing 'p' and 'q', adding the keys if they are new
+	public void unify(long p, long q) {
+		uf.unify(add(p), add(q));
+	}
+
+	private int idOrThrow(long key) {
+		int id = idOf(key);
+		if(id == -1) throw new IllegalArgumentException("Unknown key: " + key);
+		return id;
+	}
+
+	//Mix all 64 bits of the key (murmur3's 64 bit finalizer) and turn it into a table slot
+	private int slot(long h) {
+		h = (h ^ (h >>> 33)) * 0xff51afd7ed558ccdL;
+		h = (h ^ (h >>> 33)) * 0xc4ceb9fe1a85ec53L;
+		return (int) (h ^ (h >>> 33)) & mask;
+	}
+
+	//Double the table and put every key back, the ids do not change
+	private void rehash() {
+		long[] oldKeys = keys;
+		int[] oldIds = ids;
+		keys = new long[oldKeys.length << 1];
+		ids = new int[oldIds.length << 1];
+		java.util.Arrays.fill(ids, -1);
+		mask = keys.length - 1;
+
+		for(int i = 0; i < oldKeys.length; i++) {
+			if(oldIds[i] == -1) continue;
+			int s = slot(oldKeys[i]);
+			while(ids[s] != -1) s = (s + 1) & mask;
+			keys[s] = oldKeys[i];
+			ids[s] = oldIds[i];
+		}
+	}
+
+}
@@ -0,0 +1,138 @@
+/*A min PQ specialized on primitive long keys, the same way IntStack and IntQueue
+specialize Stack and Queue. Keys live directly in a long array so there is no boxing
+and comparisons are plain '<' instead of a virtual compareTo call. Sink and swim move
+a hole through the tree and write the moving key once at the end*/
+public class LongMinHeap {
+
+	private static final int DEFAULT_CAP = 1 << 4;
+
+	private long[] heap;
+	private int heapSize = 0;
+
+	public LongMinHeap() {
+		this(DEFAULT_CAP);
+	}
+
+	//Construct a priority queue with an initial capacity, it grows as needed
+	public LongMinHeap(int capacity) {
+		if(capacity < 0) throw new IllegalArgumentException("Illegal capacity: " + capacity);
+		heap = new long[Math.max(1, capacity)];
+	}
+
+	//Construct a priority queue from an array of keys using heapify in O(n) time
+	public LongMinHeap(long[] keys) {
+		this(keys.length);
+		System.arraycopy(keys, 0, heap, 0, keys.length);
+		heapSize = keys.length;
+		for(int i = (heapSize >>> 1) - 1; i >= 0; i--) sink(i, heap[i]);
+	}
+
+	// Returns the number of elements inside the heap
+	public int size() {
+		return heapSize;
+	}
+
+	// Returns true/false on whether the heap is empty
+	public boolean isEmpty() {
+		return heapSize == 0;
+	}
+
+	public void clear() {
+		heapSize = 0;
+	}
+
+	// Returns the smallest key, make sure the heap is not empty first!
+	public long peek() {
+		if(isEmpty()) throw new RuntimeException("Heap Is Empty");
+		return heap[0];
+	}
+
+	// Add a key to the heap, O(log(n))
+	public void add(long key) {
+		if(heapSize == heap.length) heap = java.util.Arrays.copyOf(heap, heapSize << 1);
+		swim(heapSize++, key);
+	}
+
+	// Remove and return the smallest key, O(log(n))
+	public long poll() {
+		long min = peek();
+		if(--heapSize > 0) sink(0, heap[heapSize]);
+		return min;
+	}
+
+	//Pull parents bigger than key down into the hole at k, then drop key in
+	private void swim(int k, long key) {
+		while(k > 0) {
+			int parent = (k - 1) >>> 1;
+			if(key >= heap[parent]) break;
+			heap[k] = heap[parent];
+			k = parent;
+		}
+		heap[k] = key;
+	}
+
+	//Pull the smaller child up into the hole at k until key fits, then drop key in
+	private void sink(int k, long key) {
+		int half = heapSize >>> 1; //nodes at or past half have no children
+		while(k < half) {
+			int child = 2 * k + 1;
+			int right = child + 1;
+			if(right < heapSize && heap[right] < heap[child]) child = right;
+			if(key <= heap[child]) break;
+			heap[k] = heap[child];
+			k = child;
+		}
+		heap[k] = key;
+	}
+
+	// Testing method to make sure the heap invariant holds, call with k = 0
+	public boolean isMinHeap(int k) {
+		if(k >= heapSize) return true;
+		int left = 2 * k + 1, right = 2 * k + 2;
+		if(left < heapSize && heap[left] < heap[k]) return false;
+		if(right < heapSize && heap[right] < heap[k]) return false;
+		return isMinHeap(left) && isMinHeap(right);
+	}
+
+	@Override
+	public String toString() {
+		return java.util.Arrays.toString(java.util.Arrays.copyOf(heap, heapSize));
+	}
+
+	// Example usage
+	public static void main(String[] args) {
+
+		LongMinHeap pq = new LongMinHeap();
+		pq.add(5);
+		pq.add(-2);
+		pq.add(9);
+		pq.add(3);
+
+		while(!pq.isEmpty()) System.out.println(pq.poll()); // -2, 3, 5, 9
+
+		benchMarkTest();
+	}
+
+	// BenchMark LongMinHeap vs BinaryHeap<Long>.
+	private static void benchMarkTest() {
+
+		int n = 2000000;
+		java.util.Random rnd = new java.util.Random(0);
+		long[] keys = new long[n];
+		for(int i = 0; i < n; i++) keys[i] = rnd.nextLong();
+
+		LongMinHeap longHeap = new LongMinHeap(n);
+		long start = System.nanoTime();
+		for(int i = 0; i < n; i++) longHeap.add(keys[i]);
+		for(int i = 0; i < n; i++) longHeap.poll();
+		long end = System.nanoTime();
+		System.out.println("LongMinHeap Time: " + (end - start) / 1e9);
+
+		BinaryHeap<Long> binaryHeap = new BinaryHeap<>(n);
+		start = System.nanoTime();
+		for(int i = 0; i < n; i++) binaryHeap.add(keys[i]);
+		for(int i = 0; i < n; i++) binaryHeap.poll();
+		end = System.nanoTime();
+		System.out.println("BinaryHeap<Long> Time: " + (end - start) / 1e9);
+	}
+}
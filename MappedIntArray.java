@@ -0,0 +1,146 @@
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/*A read only view of a file written by IntArray.save(). Nothing is copied onto the
+heap: the file is memory mapped and get(), binarySearch() and iteration read straight
+from the mapping, so opening it is close to instant and the data can be bigger than
+the heap. The operating system pages the parts that are used in and out.
+
+A single mapping can not go past 2GB, so the ints are mapped in pages of 2^28 (1GB)
+and indexes are longs*/
+public class MappedIntArray implements Iterable<Integer>, AutoCloseable {
+
+	private static final int PAGE_BITS = 28;
+	private static final long PAGE_INTS = 1L << PAGE_BITS;
+	private static final long PAGE_MASK = PAGE_INTS - 1;
+
+	private final long len;
+	private final IntBuffer[] pages;
+	private final FileChannel channel;
+
+	private MappedIntArray(long len, IntBuffer[] pages, FileChannel channel) {
+		this.len = len;
+		this.pages = pages;
+		this.channel = channel;
+	}
+
+	//Maps a file written by IntArray.save()
+	public static MappedIntArray open(Path file) throws IOException {
+		FileChannel ch = FileChannel.open(file, StandardOpenOption.READ);
+		try {
+			long len = IntArray.readFileHeader(ch);
+			IntBuffer[] pages = new IntBuffer[(int) ((len + PAGE_MASK) >>> PAGE_BITS)];
+			for(int pg = 0; pg < pages.length; pg++) {
+				long first = (long) pg << PAGE_BITS;
+				long ints = Math.min(PAGE_INTS, len - first);
+				MappedByteBuffer mapped = ch.map(FileChannel.MapMode.READ_ONLY,
+					IntArray.FILE_HEADER_BYTES + first * Integer.BYTES, ints * Integer.BYTES);
+				pages[pg] = mapped.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+			}
+			return new MappedIntArray(len, pages, ch);
+		} catch(IOException | RuntimeException e) {
+			ch.close();
+			throw e;
+		}
+	}
+
+	//Returns the size of the array
+	public long size() {
+		return len;
+	}
+
+	//Returns true or false on whether the array is empty
+	public boolean isEmpty() {
+		return len == 0;
+	}
+
+	public int get(long index) {
+		if(index < 0 || index >= len) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + len);
+		return pages[(int) (index >>> PAGE_BITS)].get((int) (index & PAGE_MASK));
+	}
+
+	/*Perform a binary search for key, the file should hold sorted data. Works like
+	Arrays.binarySearch: the index of key if found, otherwise (-(insertion point) - 1)*/
+	public long binarySearch(int key) {
+		long lo = 0, hi = len - 1;
+		while(lo <= hi) {
+			long mid = (lo + hi) >>> 1;
+			int v = get(mid);
+			if(v < key) lo = mid + 1;
+			else if(v > key) hi = mid - 1;
+			else return mid;
+		}
+		return -(lo + 1);
+	}
+
+	//Copies the whole file onto the heap as a regular IntArray
+	public IntArray toIntArray() {
+		if(len > Integer.MAX_VALUE - 8) throw new IllegalStateException("Too many elements for an IntArray: " + len);
+		IntArray ar = new IntArray((int) len + 1);
+		for(IntBuffer page : pages) {
+			int n = page.limit();
+			page.duplicate().get(ar.arr, ar.len, n);
+			ar.len += n;
+		}
+		return ar;
+	}
+
+	//Calls action on every element in order, page by page
+	public void forEachInt(java.util.function.IntConsumer action) {
+		for(IntBuffer page : pages) {
+			for(int i = 0, n = page.limit(); i < n; i++) action.accept(page.get(i));
+		}
+	}
+
+	//Iterates without boxing through nextInt()
+	public java.util.PrimitiveIterator.OfInt primitiveIterator() {
+		return new java.util.PrimitiveIterator.OfInt() {
+			long index = 0;
+
+			public boolean hasNext() {
+				return index < len;
+			}
+
+			public int nextInt() {
+				if(index >= len) throw new java.util.NoSuchElementException();
+				return get(index++);
+			}
+		};
+	}
+
+	@Override
+	public java.util.Iterator<Integer> iterator() {
+		return primitiveIterator();
+	}
+
+	/*Closes the file. The mapping itself stays valid until the buffers are garbage
+	collected*/
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	// Example usage
+	public static void main(String[] args) throws IOException {
+
+		IntArray ar = new IntArray();
+		for(int i = 0; i < 10; i++) ar.add(i * 3);
+
+		Path file = java.nio.file.Files.createTempFile("ints", ".bin");
+		ar.save(file);
+
+		try(MappedIntArray mapped = MappedIntArray.open(file)) {
+			System.out.println(mapped.size()); // 10
+			System.out.println(mapped.binarySearch(12)); // 4
+			System.out.println(mapped.binarySearch(13)); // -6
+			System.out.println(IntArray.load(file)); // [0, 3, 6, ..., 27]
+		}
+
+		java.nio.file.Files.delete(file);
+	}
+}
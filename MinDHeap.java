@@ -0,0 +1,194 @@
+/*A min PQ implementation using a d-ary heap stored in a plain Object array. With
+d children per node the tree is only log_d(n) deep, so a 4-ary or 8-ary heap does
+far fewer levels (and cache misses) per operation than BinaryHeap. Instead of swapping
+pairs of nodes all the way up or down, sink and swim carry the moving element in a
+local variable and shift the other nodes into the "hole", writing it down once at the
+end*/
+@SuppressWarnings("unchecked")
+public class MinDHeap<T extends Comparable<T>> {
+
+	private static final int DEFAULT_CAP = 1 << 4;
+
+	//The degree of every node in the heap
+	private final int d;
+
+	//The number of elements inside the heap
+	private int heapSize = 0;
+
+	//The array holding the heap, slots [heapSize, heap.length) are always null
+	private Object[] heap;
+
+	//Construct and initialize an empty 4-ary priority queue
+	public MinDHeap() {
+		this(4);
+	}
+
+	//Construct a priority queue where each node has 'degree' children
+	public MinDHeap(int degree) {
+		this(degree, DEFAULT_CAP);
+	}
+
+	//Construct a priority queue with a degree and an initial capacity
+	public MinDHeap(int degree, int sz) {
+		if(degree < 2) throw new IllegalArgumentException("Degree < 2 is not allowed: " + degree);
+		if(sz < 0) throw new IllegalArgumentException("Illegal capacity: " + sz);
+		d = degree;
+		heap = new Object[Math.max(1, sz)];
+	}
+
+	//Construct a priority queue using heapify in O(n) time
+	public MinDHeap(int degree, T[] elems) {
+		this(degree, elems.length);
+		for(T elem : elems) if(elem == null) throw new IllegalArgumentException();
+		System.arraycopy(elems, 0, heap, 0, elems.length);
+		heapSize = elems.length;
+
+		//Heapify process, O(n). Only nodes with children need to sink
+		for(int i = parent(heapSize - 1); i >= 0; i--) sink(i);
+	}
+
+	//Returns true/false depending on if the priority queue is empty
+	public boolean isEmpty() {
+		return heapSize == 0;
+	}
+
+	//Clears everything inside the heap, O(n)
+	public void clear() {
+		java.util.Arrays.fill(heap, 0, heapSize, null);
+		heapSize = 0;
+	}
+
+	//Return the size of the heap
+	public int size() {
+		return heapSize;
+	}
+
+	//Returns the degree (number of children per node) of this heap
+	public int degree() {
+		return d;
+	}
+
+	/*Returns the value of the element with the highest priority in this PQ.
+	If the PQ is empty, null is returned*/
+	public T peek() {
+		if(isEmpty()) return null;
+		return (T) heap[0];
+	}
+
+	//Removes the root of the heap, O(d*log_d(n))
+	public T poll() {
+		return removeAt(0);
+	}
+
+	//Test if an element is in the heap, O(n)
+	public boolean contains(T elem) {
+		if(elem == null) return false;
+		for(int i = 0; i < heapSize; i++) if(elem.equals(heap[i])) return true;
+		return false;
+	}
+
+	//Adds an element to the priority queue, the element must not be null, O(log_d(n))
+	public void add(T elem) {
+		if(elem == null) throw new IllegalArgumentException();
+		if(heapSize == heap.length) heap = java.util.Arrays.copyOf(heap, heap.length * 2);
+		swim(heapSize++, elem);
+	}
+
+	//Removes a particular element in the heap, O(n)
+	public boolean remove(T element) {
+		if(element == null) return false;
+		for(int i = 0; i < heapSize; i++) {
+			if(element.equals(heap[i])) {
+				removeAt(i);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	//Removes a node at a particular index, O(d*log_d(n))
+	private T removeAt(int i) {
+		if(isEmpty()) return null;
+
+		T removed_data = (T) heap[i];
+		T last = (T) heap[--heapSize];
+		heap[heapSize] = null;
+
+		//Check if it is the last element that was removed
+		if(i == heapSize) return removed_data;
+
+		//Drop the last element into the hole at i, then move it whichever way it has to go
+		if(i > 0 && last.compareTo((T) heap[parent(i)]) < 0) swim(i, last);
+		else sink(i, last);
+
+		return removed_data;
+	}
+
+	private int parent(int k) {
+		return (k - 1) / d;
+	}
+
+	/*Bottom up swim starting with a hole at k. Parents bigger than elem are pulled down
+	into the hole until elem finds its place, O(log_d(n))*/
+	private void swim(int k, T elem) {
+		while(k > 0) {
+			int parent = parent(k);
+			T p = (T) heap[parent];
+			if(elem.compareTo(p) >= 0) break;
+			heap[k] = p;
+			k = parent;
+		}
+		heap[k] = elem;
+	}
+
+	private void sink(int k) {
+		sink(k, (T) heap[k]);
+	}
+
+	/*Top down sink starting with a hole at k. The smallest child is pulled up into the
+	hole until elem is no bigger than any of its children, O(d*log_d(n))*/
+	private void sink(int k, T elem) {
+		while(true) {
+			int first = d * k + 1;
+			if(first >= heapSize) break;
+
+			//Find the smallest of up to d children
+			int last = Math.min(first + d, heapSize);
+			int smallest = first;
+			T min = (T) heap[first];
+			for(int c = first + 1; c < last; c++) {
+				T child = (T) heap[c];
+				if(child.compareTo(min) < 0) {
+					smallest = c;
+					min = child;
+				}
+			}
+
+			if(elem.compareTo(min) <= 0) break;
+			heap[k] = min;
+			k = smallest;
+		}
+		heap[k] = elem;
+	}
+
+	/*Recursively checks if this heap is a min heap. Just a testing method to make
+	sure the heap invariant is still being maintained. Call the method with k = 0
+	to start at the root*/
+	public boolean isMinHeap(int k) {
+		if(k >= heapSize) return true;
+
+		int first = d * k + 1;
+		int last = Math.min(first + d, heapSize);
+		for(int c = first; c < last; c++) {
+			if(((T) heap[k]).compareTo((T) heap[c]) > 0) return false;
+			if(!isMinHeap(c)) return false;
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return java.util.Arrays.toString(java.util.Arrays.copyOf(heap, heapSize));
+	}
+
+}
@@ -0,0 +1,245 @@
+/*A min indexed PQ implementation using a d-ary heap. Every value is associated
+with a key index ki in the range [0, maxSize). Instead of a hashtable, two int arrays
+(pm and im) track where each key index currently sits in the heap, which gives us
+O(log(n)) removals and updates and O(1) containment checks without allocating
+anything per operation. Handy for Dijkstra's and A* where nodes are already ints*/
+@SuppressWarnings("unchecked")
+public class MinIndexedDHeap<T extends Comparable<T>> {
+
+	//Current number of elements in the heap
+	private int sz;
+
+	//Maximum number of elements in the heap, key indexes must be in [0, N)
+	private final int N;
+
+	//The degree of every node in the heap
+	private final int D;
+
+	//Lookup arrays to track the child/parent indexes of each node
+	private final int[] child, parent;
+
+	/*The Position Map (pm) maps Key Indexes (ki) to where the position of that key is
+	represented in the priority queue in the domain [0, sz)*/
+	private final int[] pm;
+
+	/*The Inverse Map (im) stores the indexes of the keys in the range [0, sz) which
+	make up the priority queue. It should be noted that 'im' and 'pm' are inverses of
+	each other, so: pm[im[i]] = im[pm[i]] = i*/
+	private final int[] im;
+
+	//The values associated with the keys. This array is indexed by the key indexes (ki)
+	private final Object[] values;
+
+	//Initializes a d-ary heap with a maximum capacity of maxSize
+	public MinIndexedDHeap(int degree, int maxSize) {
+		if(maxSize <= 0) throw new IllegalArgumentException("maxSize <= 0");
+
+		D = Math.max(2, degree);
+		N = maxSize;
+
+		//The arrays get at least D + 1 slots so the root always has a full row of children
+		int cap = Math.max(D + 1, maxSize);
+		im = new int[cap];
+		pm = new int[cap];
+		child = new int[cap];
+		parent = new int[cap];
+		values = new Object[cap];
+
+		/*Precompute the first child and the parent of every position so sink and swim
+		never have to do the arithmetic*/
+		for(int i = 0; i < cap; i++) {
+			parent[i] = (i - 1) / D;
+			child[i] = i * D + 1;
+			pm[i] = im[i] = -1;
+		}
+	}
+
+	//Return the number of elements inside the heap
+	public int size() {
+		return sz;
+	}
+
+	//Returns true/false depending on if the heap is empty
+	public boolean isEmpty() {
+		return sz == 0;
+	}
+
+	//Test if a key index is in the heap, O(1)
+	public boolean contains(int ki) {
+		keyInBoundsOrThrow(ki);
+		return pm[ki] != -1;
+	}
+
+	//Returns the key index with the smallest value
+	public int peekMinKeyIndex() {
+		isNotEmptyOrThrow();
+		return im[0];
+	}
+
+	//Removes and returns the key index with the smallest value, O(log(n))
+	public int pollMinKeyIndex() {
+		int minki = peekMinKeyIndex();
+		remove(minki);
+		return minki;
+	}
+
+	//Returns the smallest value in the heap
+	public T peekMinValue() {
+		isNotEmptyOrThrow();
+		return (T) values[im[0]];
+	}
+
+	//Removes and returns the smallest value in the heap, O(log(n))
+	public T pollMinValue() {
+		T minValue = peekMinValue();
+		remove(peekMinKeyIndex());
+		return minValue;
+	}
+
+	//Associates a value with the key index ki and places it in the heap, O(log(n))
+	public void insert(int ki, T value) {
+		if(contains(ki)) throw new IllegalArgumentException("index already exists; received: " + ki);
+		valueNotNullOrThrow(value);
+		pm[ki] = sz;
+		im[sz] = ki;
+		values[ki] = value;
+		swim(sz++);
+	}
+
+	//Returns the value associated with the key index ki
+	public T valueOf(int ki) {
+		keyExistsOrThrow(ki);
+		return (T) values[ki];
+	}
+
+	//Removes the key index ki and returns its value, O(log(n))
+	public T remove(int ki) {
+		keyExistsOrThrow(ki);
+		final int i = pm[ki];
+		swap(i, --sz);
+		sink(i);
+		swim(i);
+		T value = (T) values[ki];
+		values[ki] = null;
+		pm[ki] = -1;
+		im[sz] = -1;
+		return value;
+	}
+
+	//Replaces the value of key index ki and returns the old value, O(log(n))
+	public T update(int ki, T value) {
+		keyExistsAndValueNotNullOrThrow(ki, value);
+		final int i = pm[ki];
+		T oldValue = (T) values[ki];
+		values[ki] = value;
+		sink(i);
+		swim(i);
+		return oldValue;
+	}
+
+	/*Strictly decreases the value associated with key index ki, O(log(n)). Values
+	that are not smaller than the current one are ignored*/
+	public void decreaseKey(int ki, T value) {
+		keyExistsAndValueNotNullOrThrow(ki, value);
+		if(less(value, values[ki])) {
+			values[ki] = value;
+			swim(pm[ki]);
+		}
+	}
+
+	/*Strictly increases the value associated with key index ki, O(log(n)). Values
+	that are not larger than the current one are ignored*/
+	public void increaseKey(int ki, T value) {
+		keyExistsAndValueNotNullOrThrow(ki, value);
+		if(less(values[ki], value)) {
+			values[ki] = value;
+			sink(pm[ki]);
+		}
+	}
+
+	//Top down node sink, O(log(n))
+	private void sink(int i) {
+		for(int j = minChild(i); j != -1;) {
+			swap(i, j);
+			i = j;
+			j = minChild(i);
+		}
+	}
+
+	//Bottom up node swim, O(log(n))
+	private void swim(int i) {
+		while(less(i, parent[i])) {
+			swap(i, parent[i]);
+			i = parent[i];
+		}
+	}
+
+	//From the parent node at index i find the minimum child below it
+	private int minChild(int i) {
+		int index = -1, from = child[i], to = Math.min(sz, from + D);
+		for(int j = from; j < to; j++) if(less(j, i)) index = i = j;
+		return index;
+	}
+
+	/*Swap the nodes at positions i & j, only the position arrays are touched so no
+	boxing or allocation takes place*/
+	private void swap(int i, int j) {
+		pm[im[j]] = i;
+		pm[im[i]] = j;
+		int tmp = im[i];
+		im[i] = im[j];
+		im[j] = tmp;
+	}
+
+	//Tests if the value of node i < node j
+	private boolean less(int i, int j) {
+		return ((Comparable<? super T>) values[im[i]]).compareTo((T) values[im[j]]) < 0;
+	}
+
+	private boolean less(Object obj1, Object obj2) {
+		return ((Comparable<? super T>) obj1).compareTo((T) obj2) < 0;
+	}
+
+	/*Recursively checks if this heap is a min heap. Just a testing method to make
+	sure the heap invariant is still being maintained. Call with i = 0 for the root*/
+	public boolean isMinHeap(int i) {
+		if(i >= sz) return true;
+		int from = child[i], to = Math.min(sz, from + D);
+		for(int j = from; j < to; j++) {
+			if(less(j, i)) return false;
+			if(!isMinHeap(j)) return false;
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		java.util.List<Integer> lst = new java.util.ArrayList<>(sz);
+		for(int i = 0; i < sz; i++) lst.add(im[i]);
+		return lst.toString();
+	}
+
+	//Helper functions to make the code more readable
+
+	private void isNotEmptyOrThrow() {
+		if(isEmpty()) throw new java.util.NoSuchElementException("Priority queue underflow");
+	}
+
+	private void keyExistsAndValueNotNullOrThrow(int ki, Object value) {
+		keyExistsOrThrow(ki);
+		valueNotNullOrThrow(value);
+	}
+
+	private void keyExistsOrThrow(int ki) {
+		if(!contains(ki)) throw new java.util.NoSuchElementException("Index does not exist; received: " + ki);
+	}
+
+	private void valueNotNullOrThrow(Object value) {
+		if(value == null) throw new IllegalArgumentException("value cannot be null");
+	}
+
+	private void keyInBoundsOrThrow(int ki) {
+		if(ki < 0 || ki >= N) throw new IllegalArgumentException("Key index out of bounds; received: " + ki);
+	}
+
+}
@@ -0,0 +1,260 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/*A union find that keeps its parent and size entries outside the Java heap and indexes
+them with longs, so it is not capped at 2^31 elements and adds nothing for the garbage
+collector to scan however big it gets.
+
+Every element takes 16 bytes, its parent followed by its component size, both as
+longs. The entries are split into pages of 2^26 elements (1GB) because a single
+ByteBuffer cannot go past 2GB. The pages are either direct ByteBuffers (memory only) or
+memory mapped regions of a file. A file backed instance holds a whole partition: once
+the unions are done, reopening the file gives back every component instantly without
+running a single unify again.
+
+File layout, little endian: MAGIC, size, numComponents (3 longs), then the entries*/
+public class OffHeapUnionFind implements AutoCloseable {
+
+	private static final long MAGIC = 0x554e494f4e46494eL; //"UNIONFIN"
+	private static final int HEADER_BYTES = 3 * Long.BYTES;
+	private static final int ENTRY_BYTES = 2 * Long.BYTES;
+
+	private static final int PAGE_BITS = 26;
+	private static final long PAGE_ELEMS = 1L << PAGE_BITS;
+	private static final long PAGE_MASK = PAGE_ELEMS - 1;
+
+	//The number of elements in this union find
+	private final long size;
+
+	//Tracks the number of components in the union find (also mirrored in the header)
+	private long numComponents;
+
+	private final ByteBuffer header;
+	private final ByteBuffer[] pages;
+
+	//Only set for file backed instances
+	private final FileChannel channel;
+
+	private OffHeapUnionFind(long size, ByteBuffer header, ByteBuffer[] pages, FileChannel channel) {
+		this.size = size;
+		this.header = header;
+		this.pages = pages;
+		this.channel = channel;
+	}
+
+	//An off heap union find of 'size' elements that lives in memory only
+	public OffHeapUnionFind(long size) {
+		this(checkSize(size), ByteBuffer.allocateDirect(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN),
+			new ByteBuffer[pageCount(size)], null);
+		for(int pg = 0; pg < pages.length; pg++) {
+			pages[pg] = ByteBuffer.allocateDirect((int) (pageElems(size, pg) * ENTRY_BYTES)).order(ByteOrder.LITTLE_ENDIAN);
+		}
+		init();
+	}
+
+	//Creates (or overwrites) a file backed union find of 'size' elements
+	public static OffHeapUnionFind create(Path file, long size) throws IOException {
+		checkSize(size);
+		FileChannel ch = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+			StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+		try {
+			OffHeapUnionFind uf = map(ch, size);
+			uf.init();
+			return uf;
+		} catch(IOException | RuntimeException e) {
+			ch.close();
+			throw e;
+		}
+	}
+
+	//Reopens a file written by create(), all the unions made before are still there
+	public static OffHeapUnionFind open(Path file) throws IOException {
+		FileChannel ch = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			ByteBuffer hdr = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+			while(hdr.hasRemaining()) if(ch.read(hdr, hdr.position()) < 0) throw new IOException("File too short");
+			if(hdr.getLong(0) != MAGIC) throw new IOException("Not a union find file");
+
+			long size = hdr.getLong(Long.BYTES);
+			if(ch.size() != HEADER_BYTES + size * ENTRY_BYTES) throw new IOException("Corrupt union find file");
+
+			OffHeapUnionFind uf = map(ch, size);
+			uf.numComponents = uf.header.getLong(2 * Long.BYTES);
+			return uf;
+		} catch(IOException | RuntimeException e) {
+			ch.close();
+			throw e;
+		}
+	}
+
+	//Maps the header and every page of the file
+	private static OffHeapUnionFind map(FileChannel ch, long size) throws IOException {
+		MappedByteBuffer hdr = ch.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+		hdr.order(ByteOrder.LITTLE_ENDIAN);
+
+		ByteBuffer[] pages = new ByteBuffer[pageCount(size)];
+		for(int pg = 0; pg < pages.length; pg++) {
+			long offset = HEADER_BYTES + ((long) pg << PAGE_BITS) * ENTRY_BYTES;
+			pages[pg] = ch.map(FileChannel.MapMode.READ_WRITE, offset, pageElems(size, pg) * ENTRY_BYTES);
+			pages[pg].order(ByteOrder.LITTLE_ENDIAN);
+		}
+		return new OffHeapUnionFind(size, hdr, pages, ch);
+	}
+
+	//Every element starts out as a component of its own
+	private void init() {
+		for(long i = 0; i < size; i++) {
+			setId(i, i);//Link to itself(self root)
+			setSz(i, 1);//Each component is originally of size one
+		}
+		numComponents = size;
+		header.putLong(0, MAGIC);
+		header.putLong(Long.BYTES, size);
+		header.putLong(2 * Long.BYTES, numComponents);
+	}
+
+	private static long checkSize(long size) {
+		if(size <= 0) throw new IllegalArgumentException("Size <= 0 is not allowed");
+		if(pageCountLong(size) > Integer.MAX_VALUE) throw new IllegalArgumentException("Size too large: " + size);
+		return size;
+	}
+
+	private static long pageCountLong(long size) {
+		return (size + PAGE_MASK) >>> PAGE_BITS;
+	}
+
+	private static int pageCount(long size) {
+		return (int) pageCountLong(size);
+	}
+
+	//Number of elements on page pg, only the last page can be partly used
+	private static long pageElems(long size, int pg) {
+		return Math.min(PAGE_ELEMS, size - ((long) pg << PAGE_BITS));
+	}
+
+	private long id(long p) {
+		return pages[(int) (p >>> PAGE_BITS)].getLong((int) (p & PAGE_MASK) * ENTRY_BYTES);
+	}
+
+	private void setId(long p, long parent) {
+		pages[(int) (p >>> PAGE_BITS)].putLong((int) (p & PAGE_MASK) * ENTRY_BYTES, parent);
+	}
+
+	private long sz(long p) {
+		return pages[(int) (p >>> PAGE_BITS)].getLong((int) (p & PAGE_MASK) * ENTRY_BYTES + Long.BYTES);
+	}
+
+	private void setSz(long p, long size) {
+		pages[(int) (p >>> PAGE_BITS)].putLong((int) (p & PAGE_MASK) * ENTRY_BYTES + Long.BYTES, size);
+	}
+
+	//Find the root of the component/set p belongs to, with path compression
+	public long find(long p) {
+		checkIndex(p);
+
+		long root = p;
+		while(root != id(root)) root = id(root);
+
+		//Path compression
+		while(p != root) {
+			long next = id(p);
+			setId(p, root);
+			p = next;
+		}
+
+		return root;
+	}
+
+	//Return whether or not the elements 'p' and 'q' are in the same components/set
+	public boolean connected(long p, long q) {
+		return find(p) == find(q);
+	}
+
+	//Return the size of the components/set 'p' belongs to
+	public long componentSize(long p) {
+		return sz(find(p));
+	}
+
+	//Return the number of elements in this UnionFind/Disjoint set
+	public long size() {
+		return size;
+	}
+
+	//Returns the number of remaining components/sets
+	public long components() {
+		return numComponents;
+	}
+
+	//Unify the components/sets containing elements 'p' and 'q'
+	public void unify(long p, long q) {
+
+		long root1 = find(p);
+		long root2 = find(q);
+
+		//These elements are already in the same group!
+		if(root1 == root2) return;
+
+		//Merge smaller component/set into the larger one.
+		if(sz(root1) < sz(root2)) {
+			setSz(root2, sz(root2) + sz(root1));
+			setId(root1, root2);
+		} else {
+			setSz(root1, sz(root1) + sz(root2));
+			setId(root2, root1);
+		}
+
+		numComponents--;
+		header.putLong(2 * Long.BYTES, numComponents);
+	}
+
+	//Returns true if the entries are backed by a file
+	public boolean isFileBacked() {
+		return channel != null;
+	}
+
+	//Writes every change made so far through to the file (no-op when memory only)
+	public void force() {
+		if(channel == null) return;
+		((MappedByteBuffer) header).force();
+		for(ByteBuffer page : pages) ((MappedByteBuffer) page).force();
+	}
+
+	/*Flushes and closes the file. The mappings themselves are released once the buffers
+	are garbage collected*/
+	@Override
+	public void close() throws IOException {
+		if(channel == null) return;
+		force();
+		channel.close();
+	}
+
+	private void checkIndex(long p) {
+		if(p < 0 || p >= size) throw new IndexOutOfBoundsException("Index: " + p + ", Size: " + size);
+	}
+
+	// Example usage
+	public static void main(String[] args) throws IOException {
+
+		Path file = java.nio.file.Files.createTempFile("uf", ".bin");
+
+		try(OffHeapUnionFind uf = OffHeapUnionFind.create(file, 10)) {
+			uf.unify(0, 1);
+			uf.unify(1, 9);
+			uf.unify(4, 5);
+		}
+
+		// Reopen the partition without unifying again
+		try(OffHeapUnionFind uf = OffHeapUnionFind.open(file)) {
+			System.out.println(uf.connected(0, 9)); // true
+			System.out.println(uf.componentSize(9)); // 3
+			System.out.println(uf.components()); // 7
+		}
+
+		java.nio.file.Files.delete(file);
+	}
+}
@@ -0,0 +1,236 @@
+import java.util.Comparator;
+import java.util.function.ToLongFunction;
+
+/*A binary heap whose ordering is supplied by the caller instead of compareTo. It works
+in one of two modes:
+ 1. Comparator mode - every comparison goes through the given Comparator.
+ 2. Key mode - a ToLongFunction extracts a long priority ONCE when an element is added.
+    The key is stored in a long array that moves in lockstep with the elements, so the
+    sink/swim loops only ever compare primitives. Good for objects with expensive
+    comparisons, since poll() would otherwise compare about 2*log(n) times.
+Whether the heap hands out the smallest or the largest element first is decided at
+construction, so callers do not need to wrap or reverse their comparators*/
+@SuppressWarnings("unchecked")
+public class OrderedHeap<T> {
+
+	private static final int DEFAULT_CAP = 1 << 4;
+
+	//The number of elements inside the heap
+	private int heapSize = 0;
+
+	//The elements of the heap
+	private Object[] heap;
+
+	/*Key mode only: keys[i] is the precomputed priority of heap[i]. In max mode the keys
+	are stored bitwise complemented (~key), which flips their order without the overflow
+	that negating Long.MIN_VALUE would cause, so the sift loops are always a plain '<'*/
+	private long[] keys;
+
+	//Exactly one of these is set, depending on the mode the heap was built in
+	private final Comparator<? super T> comparator;
+	private final ToLongFunction<? super T> keyExtractor;
+
+	//true if the largest element comes out first
+	private final boolean maxHeap;
+
+	private OrderedHeap(Comparator<? super T> comparator, ToLongFunction<? super T> keyExtractor,
+		boolean maxHeap, int sz) {
+		if(sz < 0) throw new IllegalArgumentException("Illegal capacity: " + sz);
+		this.comparator = comparator;
+		this.keyExtractor = keyExtractor;
+		this.maxHeap = maxHeap;
+		heap = new Object[Math.max(1, sz)];
+		if(keyExtractor != null) keys = new long[heap.length];
+	}
+
+	//Heap ordered by a comparator, pass maxHeap = true to poll the largest element first
+	public static <T> OrderedHeap<T> byComparator(Comparator<? super T> comparator, boolean maxHeap) {
+		return byComparator(comparator, maxHeap, DEFAULT_CAP);
+	}
+
+	public static <T> OrderedHeap<T> byComparator(Comparator<? super T> comparator, boolean maxHeap, int sz) {
+		if(comparator == null) throw new IllegalArgumentException("Comparator cannot be null");
+		return new OrderedHeap<>(comparator, null, maxHeap, sz);
+	}
+
+	/*Heap ordered by a long key that is computed once per element when it is added. The
+	key of an element must not change while it is in the heap*/
+	public static <T> OrderedHeap<T> byKey(ToLongFunction<? super T> keyExtractor, boolean maxHeap) {
+		return byKey(keyExtractor, maxHeap, DEFAULT_CAP);
+	}
+
+	public static <T> OrderedHeap<T> byKey(ToLongFunction<? super T> keyExtractor, boolean maxHeap, int sz) {
+		if(keyExtractor == null) throw new IllegalArgumentException("Key extractor cannot be null");
+		return new OrderedHeap<>(null, keyExtractor, maxHeap, sz);
+	}
+
+	//Returns true/false depending on if the priority queue is empty
+	public boolean isEmpty() {
+		return heapSize == 0;
+	}
+
+	//Return the size of the heap
+	public int size() {
+		return heapSize;
+	}
+
+	//Returns true if the largest element is polled first
+	public boolean isMaxHeap() {
+		return maxHeap;
+	}
+
+	//Clears everything inside the heap, O(n)
+	public void clear() {
+		java.util.Arrays.fill(heap, 0, heapSize, null);
+		heapSize = 0;
+	}
+
+	//Returns the element with the highest priority, or null if the PQ is empty
+	public T peek() {
+		if(isEmpty()) return null;
+		return (T) heap[0];
+	}
+
+	//Removes the root of the heap, O(log(n))
+	public T poll() {
+		return removeAt(0);
+	}
+
+	//Test if an element is in the heap, O(n)
+	public boolean contains(T elem) {
+		if(elem == null) return false;
+		for(int i = 0; i < heapSize; i++) if(elem.equals(heap[i])) return true;
+		return false;
+	}
+
+	//Adds an element to the priority queue, the element must not be null, O(log(n))
+	public void add(T elem) {
+		if(elem == null) throw new IllegalArgumentException();
+		if(heapSize == heap.length) {
+			heap = java.util.Arrays.copyOf(heap, heapSize << 1);
+			if(keys != null) keys = java.util.Arrays.copyOf(keys, heapSize << 1);
+		}
+		if(keys != null) {
+			long key = keyExtractor.applyAsLong(elem);
+			swimKey(heapSize++, elem, maxHeap ? ~key : key);
+		} else swimCmp(heapSize++, elem);
+	}
+
+	//Removes a particular element in the heap, O(n)
+	public boolean remove(T element) {
+		if(element == null) return false;
+		for(int i = 0; i < heapSize; i++) {
+			if(element.equals(heap[i])) {
+				removeAt(i);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	//Removes a node at a particular index, O(log(n))
+	private T removeAt(int i) {
+		if(isEmpty()) return null;
+
+		T removed_data = (T) heap[i];
+		T last = (T) heap[--heapSize];
+		heap[heapSize] = null;
+
+		//Check if it is the last element that was removed
+		if(i == heapSize) return removed_data;
+
+		//Drop the last element into the hole at i and let it sink or swim from there
+		if(keys != null) {
+			long key = keys[heapSize];
+			if(i > 0 && key < keys[(i - 1) >>> 1]) swimKey(i, last, key);
+			else sinkKey(i, last, key);
+		} else {
+			if(i > 0 && before(last, (T) heap[(i - 1) >>> 1])) swimCmp(i, last);
+			else sinkCmp(i, last);
+		}
+
+		return removed_data;
+	}
+
+	//Tests whether a must come out of the heap strictly before b (comparator mode)
+	private boolean before(T a, T b) {
+		return maxHeap ? comparator.compare(b, a) < 0 : comparator.compare(a, b) < 0;
+	}
+
+	//Bottom up swim with a hole at k, comparator mode, O(log(n))
+	private void swimCmp(int k, T elem) {
+		while(k > 0) {
+			int parent = (k - 1) >>> 1;
+			T p = (T) heap[parent];
+			if(!before(elem, p)) break;
+			heap[k] = p;
+			k = parent;
+		}
+		heap[k] = elem;
+	}
+
+	//Top down sink with a hole at k, comparator mode, O(log(n))
+	private void sinkCmp(int k, T elem) {
+		int half = heapSize >>> 1;
+		while(k < half) {
+			int child = 2 * k + 1;
+			int right = child + 1;
+			T c = (T) heap[child];
+			if(right < heapSize && before((T) heap[right], c)) c = (T) heap[child = right];
+			if(!before(c, elem)) break;
+			heap[k] = c;
+			k = child;
+		}
+		heap[k] = elem;
+	}
+
+	//Bottom up swim with a hole at k, key mode. Only primitive compares, O(log(n))
+	private void swimKey(int k, T elem, long key) {
+		while(k > 0) {
+			int parent = (k - 1) >>> 1;
+			if(key >= keys[parent]) break;
+			heap[k] = heap[parent];
+			keys[k] = keys[parent];
+			k = parent;
+		}
+		heap[k] = elem;
+		keys[k] = key;
+	}
+
+	//Top down sink with a hole at k, key mode. Only primitive compares, O(log(n))
+	private void sinkKey(int k, T elem, long key) {
+		int half = heapSize >>> 1;
+		while(k < half) {
+			int child = 2 * k + 1;
+			int right = child + 1;
+			if(right < heapSize && keys[right] < keys[child]) child = right;
+			if(key <= keys[child]) break;
+			heap[k] = heap[child];
+			keys[k] = keys[child];
+			k = child;
+		}
+		heap[k] = elem;
+		keys[k] = key;
+	}
+
+	/*Recursively checks the heap invariant in whichever direction this heap was built
+	with. Just a testing method, call it with k = 0 to start at the root*/
+	public boolean isHeap(int k) {
+		if(k >= heapSize) return true;
+
+		int left = 2 * k + 1;
+		int right = 2 * k + 2;
+
+		for(int c = left; c <= right && c < heapSize; c++) {
+			if(keys != null ? keys[c] < keys[k] : before((T) heap[c], (T) heap[k])) return false;
+		}
+
+		return isHeap(left) && isHeap(right);
+	}
+
+	@Override
+	public String toString() {
+		return java.util.Arrays.toString(java.util.Arrays.copyOf(heap, heapSize));
+	}
+
+}
@@ -0,0 +1,194 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/*Writes the primitive dynamic arrays (LongArray, DoubleArray, ...) that follow IntArray
+from the one template below, so all of them keep exactly the same surface and fixes.
+Edit the template and rerun instead of editing the generated files:
+
+	java PrimitiveArrayGenerator [output directory]
+
+Placeholders:
+	$Name$      class name, e.g. LongArray
+	$type$      primitive type, e.g. long
+	$Boxed$     wrapper type, e.g. Long
+	$Iter$      JDK primitive iterator the values are widened to, e.g. OfLong
+	$wide$      type that iterator hands out, e.g. long
+	$Next$      its next method, e.g. nextLong
+	$eq(a,b)$   equality test, floating point types use compare() so NaN can be found*/
+public class PrimitiveArrayGenerator {
+
+	private static final String[][] TYPES = {
+		// Name, type, Boxed, Iter, wide, Next, compare class (null = use ==)
+		{"LongArray", "long", "Long", "OfLong", "long", "nextLong", null},
+		{"DoubleArray", "double", "Double", "OfDouble", "double", "nextDouble", "Double"},
+		{"FloatArray", "float", "Float", "OfDouble", "double", "nextDouble", "Float"},
+		{"ShortArray", "short", "Short", "OfInt", "int", "nextInt", null},
+		{"ByteArray", "byte", "Byte", "OfInt", "int", "nextInt", null},
+	};
+
+	private static final String TEMPLATE = String.join("\n",
+		"// Generated by PrimitiveArrayGenerator from the same template as the other primitive arrays, do not edit",
+		"public class $Name$ implements Iterable<$Boxed$> {",
+		"",
+		"	private static final int DEFAULT_CAP = 1 << 3;",
+		"",
+		"	public $type$[] arr;",
+		"	public int len = 0;",
+		"	private int capacity = 0;",
+		"",
+		"	//initialize array with default capacity",
+		"	public $Name$() {",
+		"		this(DEFAULT_CAP);",
+		"	}",
+		"",
+		"	//initialize the array with a certain capacity",
+		"	public $Name$(int capacity) {",
+		"		if(capacity < 0) throw new IllegalArgumentException(\"Illegal Capacity: \" + capacity);",
+		"		this.capacity = capacity;",
+		"		arr = new $type$[capacity];",
+		"	}",
+		"",
+		"	//Given an array make it a dynamic array!",
+		"	public $Name$($type$[] array) {",
+		"		if(array == null) throw new IllegalArgumentException(\"Array cannot be null\");",
+		"		arr = java.util.Arrays.copyOf(array, array.length);",
+		"		capacity = len = array.length;",
+		"	}",
+		"",
+		"	//Returns the size of the array",
+		"	public int size() {",
+		"		return len;",
+		"	}",
+		"",
+		"	//Returns true or false on whether the array is empty",
+		"	public boolean isEmpty() {",
+		"		return len == 0;",
+		"	}",
+		"",
+		"	//get and set methods",
+		"	public $type$ get(int index) {",
+		"		return arr[index];",
+		"	}",
+		"",
+		"	public void set(int index, $type$ elem) {",
+		"		arr[index] = elem;",
+		"	}",
+		"",
+		"	//Add an element to this Dynamic Array",
+		"	public void add($type$ elem) {",
+		"		if(len + 1 >= capacity) {",
+		"			if(capacity == 0) capacity = 1;",
+		"			else capacity *= 2; //double the array capacity here",
+		"",
+		"			arr = java.util.Arrays.copyOf(arr, capacity); // pads with zeros",
+		"		}",
+		"		arr[len++] = elem;",
+		"	}",
+		"",
+		"	//Remove the element at the specified index by shifting the tail left, O(n)",
+		"	public void removeAt(int rm_index) {",
+		"		if(rm_index < 0 || rm_index >= len) throw new IndexOutOfBoundsException();",
+		"		System.arraycopy(arr, rm_index + 1, arr, rm_index, len - rm_index - 1);",
+		"		--len;",
+		"	}",
+		"",
+		"	//search and remove an element if it is found in the array",
+		"	public boolean remove($type$ elem) {",
+		"		for(int i = 0; i < len; i++) {",
+		"			if($eq(arr[i],elem)$) {",
+		"				removeAt(i);",
+		"				return true;",
+		"			}",
+		"		}",
+		"		return false;",
+		"	}",
+		"",
+		"	// Reverse the contents of this array",
+		"	public void reverse() {",
+		"		for(int i = 0; i < len / 2; i++) {",
+		"			$type$ tmp = arr[i];",
+		"			arr[i] = arr[len - i - 1];",
+		"			arr[len - i - 1] = tmp;",
+		"		}",
+		"	}",
+		"",
+		"	// Perform a binary search on this array to find an element in O(log(n)) time",
+		"	// The array should however be sorted.(Make sure of that)! Returns a value < 0 if item is not found",
+		"	public int binarySearch($type$ key) {",
+		"		return java.util.Arrays.binarySearch(arr, 0, len, key);",
+		"	}",
+		"",
+		"	// Sort this array",
+		"	public void sort() {",
+		"		java.util.Arrays.sort(arr, 0, len);",
+		"	}",
+		"",
+		"	// Iterate without boxing, values are widened to $wide$ like the JDK streams do",
+		"	public java.util.PrimitiveIterator.$Iter$ primitiveIterator() {",
+		"		return new java.util.PrimitiveIterator.$Iter$() {",
+		"			int index = 0;",
+		"",
+		"			public boolean hasNext() {",
+		"				return index < len;",
+		"			}",
+		"",
+		"			public $wide$ $Next$() {",
+		"				if(index >= len) throw new java.util.NoSuchElementException();",
+		"				return arr[index++];",
+		"			}",
+		"		};",
+		"	}",
+		"",
+		"	// Iterator is still fast but not as fast as iterative for loop",
+		"	@Override",
+		"	public java.util.Iterator<$Boxed$> iterator() {",
+		"		return new java.util.Iterator<$Boxed$>() {",
+		"			int index = 0;",
+		"",
+		"			public boolean hasNext() {",
+		"				return index < len;",
+		"			}",
+		"",
+		"			public $Boxed$ next() {",
+		"				return arr[index++];",
+		"			}",
+		"",
+		"			public void remove() {",
+		"				throw new UnsupportedOperationException();",
+		"			}",
+		"		};",
+		"	}",
+		"",
+		"	@Override",
+		"	public String toString() {",
+		"		if(len == 0) return \"[]\";",
+		"		else {",
+		"			StringBuilder sb = new StringBuilder(len).append(\"[\");",
+		"			for(int i = 0; i < len - 1; i++) sb.append(arr[i] + \", \");",
+		"			return sb.append(arr[len - 1] + \"]\").toString();",
+		"		}",
+		"	}",
+		"",
+		"}",
+		"");
+
+	public static void main(String[] args) throws IOException {
+		Path dir = Paths.get(args.length > 0 ? args[0] : ".");
+		for(String[] t : TYPES) {
+			String src = TEMPLATE
+				.replace("$eq(arr[i],elem)$", t[6] == null ? "arr[i] == elem" : t[6] + ".compare(arr[i], elem) == 0")
+				.replace("$Name$", t[0])
+				.replace("$type$", t[1])
+				.replace("$Boxed$", t[2])
+				.replace("$Iter$", t[3])
+				.replace("$wide$", t[4])
+				.replace("$Next$", t[5]);
+			Path out = dir.resolve(t[0] + ".java");
+			Files.write(out, src.getBytes(StandardCharsets.UTF_8));
+			System.out.println("Wrote " + out);
+		}
+	}
+}
@@ -0,0 +1,176 @@
+/*A monotone min PQ of (long key, int payload) entries, int keys simply widen to long.
+A radix heap only works when the keys that get polled never decrease, which is the case
+for Dijkstra's algorithm and discrete event simulations: every key added must be >= the
+last key polled. In return it needs no comparisons between entries at all.
+
+Entries sit in 65 buckets. Bucket 0 holds keys equal to 'last' (the last polled key),
+and bucket i (i >= 1) holds keys whose highest bit that differs from 'last' is bit i-1.
+When bucket 0 runs dry, the first non empty bucket is emptied, its smallest key becomes
+the new 'last' and its entries are spread over lower buckets. Every entry can only move
+down, so each one is moved at most 64 times: amortized O(log(C)) per entry where C is
+the key range. All buckets are primitive parallel arrays so nothing gets boxed*/
+public class RadixHeap {
+
+	private static final int BUCKETS = 65;
+	private static final int DEFAULT_BUCKET_CAP = 1 << 2;
+
+	private final long[][] keys = new long[BUCKETS][];
+	private final int[][] payloads = new int[BUCKETS][];
+	private final int[] bucketSize = new int[BUCKETS];
+
+	//The number of entries in the heap
+	private int heapSize = 0;
+
+	//The last key polled (or pulled to the front by a peek), no key may be added below it
+	private long last;
+
+	//A heap that accepts any key >= 0
+	public RadixHeap() {
+		this(0);
+	}
+
+	//A heap that accepts any key >= minKey
+	public RadixHeap(long minKey) {
+		last = minKey;
+		for(int b = 0; b < BUCKETS; b++) {
+			keys[b] = new long[DEFAULT_BUCKET_CAP];
+			payloads[b] = new int[DEFAULT_BUCKET_CAP];
+		}
+	}
+
+	// Returns the number of entries inside the heap
+	public int size() {
+		return heapSize;
+	}
+
+	// Returns true/false on whether the heap is empty
+	public boolean isEmpty() {
+		return heapSize == 0;
+	}
+
+	public void clear() {
+		java.util.Arrays.fill(bucketSize, 0);
+		heapSize = 0;
+	}
+
+	//Smallest key that may still be added
+	public long lowerBound() {
+		return last;
+	}
+
+	//Add an entry, the key must not be below the last polled key. Amortized O(1)
+	public void add(long key, int payload) {
+		if(key < last) throw new IllegalArgumentException(
+			"Radix heap keys must be monotone; received " + key + " after " + last);
+		push(bucketOf(key), key, payload);
+		heapSize++;
+	}
+
+	// Returns the smallest key, make sure the heap is not empty first!
+	public long peekKey() {
+		pull();
+		return last;
+	}
+
+	// Returns the payload that goes with the smallest key
+	public int peekPayload() {
+		pull();
+		return payloads[0][bucketSize[0] - 1];
+	}
+
+	/*Remove the entry with the smallest key and return its payload, amortized O(log(C)).
+	Call peekKey() first if the key is needed too*/
+	public int poll() {
+		pull();
+		heapSize--;
+		return payloads[0][--bucketSize[0]];
+	}
+
+	//The bucket a key belongs in, relative to the current 'last'
+	private int bucketOf(long key) {
+		return 64 - Long.numberOfLeadingZeros(key ^ last);
+	}
+
+	private void push(int b, long key, int payload) {
+		int n = bucketSize[b];
+		if(n == keys[b].length) {
+			keys[b] = java.util.Arrays.copyOf(keys[b], n << 1);
+			payloads[b] = java.util.Arrays.copyOf(payloads[b], n << 1);
+		}
+		keys[b][n] = key;
+		payloads[b][n] = payload;
+		bucketSize[b] = n + 1;
+	}
+
+	/*Makes sure bucket 0 is not empty, redistributing the first non empty bucket if it
+	is. Afterwards 'last' equals the smallest key in the heap*/
+	private void pull() {
+		if(isEmpty()) throw new RuntimeException("Heap Is Empty");
+		if(bucketSize[0] > 0) return;
+
+		int b = 1;
+		while(bucketSize[b] == 0) b++;
+
+		long[] k = keys[b];
+		int[] p = payloads[b];
+		int n = bucketSize[b];
+
+		long min = k[0];
+		for(int i = 1; i < n; i++) if(k[i] < min) min = k[i];
+		last = min;
+
+		//Every entry now lands in a bucket below b since it agrees with min on the higher bits
+		bucketSize[b] = 0;
+		for(int i = 0; i < n; i++) push(bucketOf(k[i]), k[i], p[i]);
+	}
+
+	// Example usage
+	public static void main(String[] args) {
+
+		RadixHeap pq = new RadixHeap();
+		pq.add(7, 0);
+		pq.add(3, 1);
+		pq.add(3, 2);
+		pq.add(12, 3);
+
+		while(!pq.isEmpty()) {
+			long key = pq.peekKey();
+			int node = pq.poll();
+			System.out.println(key + " -> " + node); // keys 3, 3, 5, 7, 12
+			if(key == 3 && node == 2) pq.add(5, 4); // still >= 3 so this is allowed
+		}
+
+		benchMarkTest();
+	}
+
+	// BenchMark RadixHeap vs BinaryHeap<Long> on a monotone workload.
+	private static void benchMarkTest() {
+
+		int n = 2000000;
+		java.util.Random rnd = new java.util.Random(0);
+		int[] deltas = new int[n];
+		for(int i = 0; i < n; i++) deltas[i] = rnd.nextInt(1000);
+
+		// Keep the heap around 1000 entries, every new key is the current min + delta
+		long start = System.nanoTime();
+		RadixHeap radix = new RadixHeap();
+		for(int i = 0; i < 1000; i++) radix.add(deltas[i], i);
+		for(int i = 0; i < n; i++) {
+			long min = radix.peekKey();
+			radix.poll();
+			radix.add(min + deltas[i], i);
+		}
+		long end = System.nanoTime();
+		System.out.println("RadixHeap Time: " + (end - start) / 1e9);
+
+		start = System.nanoTime();
+		BinaryHeap<Long> binaryHeap = new BinaryHeap<>();
+		for(int i = 0; i < 1000; i++) binaryHeap.add((long) deltas[i]);
+		for(int i = 0; i < n; i++) {
+			long min = binaryHeap.poll();
+			binaryHeap.add(min + deltas[i]);
+		}
+		end = System.nanoTime();
+		System.out.println("BinaryHeap<Long> Time: " + (end - start) / 1e9);
+	}
+}
@@ -0,0 +1,128 @@
+/*A union find that can undo its unions, the building block for backtracking searches,
+"what if" merges and offline dynamic connectivity (divide and conquer over time).
+
+To make undoing cheap it does union by size WITHOUT path compression: a union then
+changes exactly one parent pointer and one size, and find() changes nothing at all.
+Union by size alone still keeps every tree O(log(n)) deep. Each union that merges two
+components pushes the root that got linked onto an IntStack, and that is all that is
+needed to reverse it later. snapshot() is just the current stack height, and
+rollback(snapshot) pops back down to it in time proportional to the unions undone*/
+public class RollbackUnionFind {
+
+	//The number of elements in this union find
+	private final int size;
+
+	//Tracks the size of each of the component i.e the number of elements in each component
+	private final int[] sz;
+
+	//id[i] points to the parent of i, if id[i] = i then i is a root node
+	private final int[] id;
+
+	//Tracks the number of components in the union find
+	private int numComponents;
+
+	/*The roots that were linked under another root, in order. There can be at most
+	size - 1 successful unions so the stack never needs to grow*/
+	private final IntStack history;
+
+	public RollbackUnionFind(int size) {
+
+		if(size <= 0) throw new IllegalArgumentException("Size <= 0 is not allowed");
+
+		this.size = numComponents = size;
+		sz = new int[size];
+		id = new int[size];
+		history = new IntStack(size);
+
+		for(int i = 0; i < size; i++) {
+			id[i] = i;//Link to itself(self root)
+			sz[i] = 1;//Each component is originally of size one
+		}
+	}
+
+	//Find the root of the component/set p belongs to, O(log(n)) and read only
+	public int find(int p) {
+		while(p != id[p]) p = id[p];
+		return p;
+	}
+
+	//Return whether or not the elements 'p' and 'q' are in the same components/set
+	public boolean connected(int p, int q) {
+		return find(p) == find(q);
+	}
+
+	//Return the size of the components/set 'p' belongs to
+	public int componentSize(int p) {
+		return sz[find(p)];
+	}
+
+	//Return the number of elements in this UnionFind/Disjoint set
+	public int size() {
+		return size;
+	}
+
+	//Returns the number of remaining components/sets
+	public int components() {
+		return numComponents;
+	}
+
+	/*Unify the components/sets containing elements 'p' and 'q'. Returns false (and
+	records nothing) if they already were in the same component*/
+	public boolean unify(int p, int q) {
+
+		int root1 = find(p);
+		int root2 = find(q);
+
+		//These elements are already in the same group!
+		if(root1 == root2) return false;
+
+		//Merge smaller component/set into the larger one.
+		if(sz[root1] < sz[root2]) {
+			int tmp = root1;
+			root1 = root2;
+			root2 = tmp;
+		}
+		sz[root1] += sz[root2];
+		id[root2] = root1;
+		history.push(root2);
+
+		numComponents--;
+		return true;
+	}
+
+	/*Returns a marker for the current state, pass it to rollback() to get back here.
+	Markers are only valid while no rollback has gone below them*/
+	public int snapshot() {
+		return history.size();
+	}
+
+	//Undoes every union made since the snapshot was taken, O(unions undone)
+	public void rollback(int snapshot) {
+		if(snapshot < 0 || snapshot > history.size()) throw new IllegalArgumentException("Invalid snapshot: " + snapshot);
+		while(history.size() > snapshot) undo();
+	}
+
+	//Undoes the most recent successful union, O(1)
+	public void undo() {
+		int child = history.pop();
+		int root = id[child];
+		sz[root] -= sz[child];
+		id[child] = child;
+		numComponents++;
+	}
+
+	// Example usage
+	public static void main(String[] args) {
+
+		RollbackUnionFind uf = new RollbackUnionFind(5);
+		uf.unify(0, 1);
+
+		int snap = uf.snapshot();
+		uf.unify(1, 2);
+		uf.unify(3, 4);
+		System.out.println(uf.connected(0, 2) + " " + uf.components()); // true 2
+
+		uf.rollback(snap);
+		System.out.println(uf.connected(0, 2) + " " + uf.components()); // false 4
+	}
+}
@@ -0,0 +1,67 @@
+//Plain loop versions of the IntArray kernels, used when the Vector API is not available
+final class ScalarIntKernels implements IntKernels {
+
+	@Override
+	public long sum(int[] a, int from, int to) {
+		long sum = 0;
+		for(int i = from; i < to; i++) sum += a[i];
+		return sum;
+	}
+
+	@Override
+	public int min(int[] a, int from, int to) {
+		int min = Integer.MAX_VALUE;
+		for(int i = from; i < to; i++) min = Math.min(min, a[i]);
+		return min;
+	}
+
+	@Override
+	public int max(int[] a, int from, int to) {
+		int max = Integer.MIN_VALUE;
+		for(int i = from; i < to; i++) max = Math.max(max, a[i]);
+		return max;
+	}
+
+	@Override
+	public int count(int[] a, int from, int to, int value) {
+		int count = 0;
+		for(int i = from; i < to; i++) if(a[i] == value) count++;
+		return count;
+	}
+
+	@Override
+	public int indexOf(int[] a, int from, int to, int value) {
+		for(int i = from; i < to; i++) if(a[i] == value) return i;
+		return -1;
+	}
+
+	@Override
+	public void fill(int[] a, int from, int to, int value) {
+		java.util.Arrays.fill(a, from, to, value);
+	}
+
+	@Override
+	public void add(int[] dst, int[] src, int len) {
+		for(int i = 0; i < len; i++) dst[i] += src[i];
+	}
+
+	@Override
+	public long[] filter(int[] a, int from, int to, Cmp op, int value) {
+		long[] bits = new long[(to - from + 63) >>> 6];
+		for(int i = from; i < to; i++) {
+			if(test(a[i], op, value)) bits[(i - from) >>> 6] |= 1L << (i - from);
+		}
+		return bits;
+	}
+
+	static boolean test(int x, Cmp op, int value) {
+		switch(op) {
+			case LT: return x < value;
+			case LE: return x <= value;
+			case GT: return x > value;
+			case GE: return x >= value;
+			case EQ: return x == value;
+			default: return x != value;
+		}
+	}
+}
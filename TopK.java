@@ -0,0 +1,165 @@
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collector;
+
+/*Streaming top-k selector. Keeps the k smallest elements seen so far (smallest according
+to the comparator, pass a reversed one for the k largest) in a bounded heap of exactly
+k slots. The heap is ordered the other way round, so its root is the WORST element we
+are still keeping:
+ - while fewer than k elements have been seen, offer() just adds to the heap
+ - after that a new element is compared with the root once; if it is not better it is
+   rejected right away, otherwise it replaces the root and sinks into place.
+So memory stays O(k) and time is O(nlog(k)), with most elements costing one compare
+when n >> k. It also works as a Collector; under a parallel stream every thread fills
+its own TopK and the partial results are merged at the end*/
+@SuppressWarnings("unchecked")
+public class TopK<T> {
+
+	private final int k;
+	private final Comparator<? super T> comparator;
+
+	//Max heap (with respect to comparator) of the kept elements
+	private final Object[] heap;
+	private int heapSize = 0;
+
+	//Keeps the k smallest elements according to comparator
+	public TopK(int k, Comparator<? super T> comparator) {
+		if(k <= 0) throw new IllegalArgumentException("k <= 0 is not allowed");
+		if(comparator == null) throw new IllegalArgumentException("Comparator cannot be null");
+		this.k = k;
+		this.comparator = comparator;
+		heap = new Object[k];
+	}
+
+	//Collector of the k smallest elements in ascending order
+	public static <T extends Comparable<? super T>> Collector<T, ?, List<T>> smallest(int k) {
+		return collector(k, Comparator.naturalOrder());
+	}
+
+	//Collector of the k largest elements in descending order
+	public static <T extends Comparable<? super T>> Collector<T, ?, List<T>> largest(int k) {
+		return collector(k, Comparator.reverseOrder());
+	}
+
+	/*Collector of the k first elements according to comparator, returned sorted by it.
+	Elements are kept per thread, so the collector is not CONCURRENT but it is safe and
+	useful on parallel streams*/
+	public static <T> Collector<T, ?, List<T>> collector(int k, Comparator<? super T> comparator) {
+		if(k <= 0) throw new IllegalArgumentException("k <= 0 is not allowed");
+		return Collector.of(
+			() -> new TopK<T>(k, comparator),
+			TopK::offer,
+			TopK::merge,
+			TopK::toSortedList);
+	}
+
+	// Returns the number of elements kept, never more than k
+	public int size() {
+		return heapSize;
+	}
+
+	public boolean isEmpty() {
+		return heapSize == 0;
+	}
+
+	public int capacity() {
+		return k;
+	}
+
+	/*Returns the worst element we are currently keeping, any element that is not better
+	than this one gets rejected once the selector is full. null if nothing was offered*/
+	public T peekWorst() {
+		if(isEmpty()) return null;
+		return (T) heap[0];
+	}
+
+	/*Offers an element, returns true if it was kept. O(1) when it is rejected,
+	O(log(k)) otherwise*/
+	public boolean offer(T elem) {
+		if(elem == null) throw new IllegalArgumentException();
+
+		if(heapSize < k) {
+			swim(heapSize++, elem);
+			return true;
+		}
+
+		//Single compare against the root decides whether elem qualifies
+		if(comparator.compare(elem, (T) heap[0]) >= 0) return false;
+		sink(0, elem);
+		return true;
+	}
+
+	//Offers every element kept by other to this selector and returns this
+	public TopK<T> merge(TopK<T> other) {
+		for(int i = 0; i < other.heapSize; i++) offer((T) other.heap[i]);
+		return this;
+	}
+
+	//Returns the kept elements sorted by the comparator. The selector itself is unchanged
+	public List<T> toSortedList() {
+		Object[] sorted = java.util.Arrays.copyOf(heap, heapSize);
+
+		/*Heap sort: keep moving the root (the biggest remaining element) to the end of the
+		unsorted part, which leaves the array in ascending order*/
+		for(int end = heapSize - 1; end > 0; end--) {
+			Object root = sorted[0];
+			sink(sorted, end, 0, (T) sorted[end]);
+			sorted[end] = root;
+		}
+
+		List<T> lst = new ArrayList<>(heapSize);
+		for(Object o : sorted) lst.add((T) o);
+		return lst;
+	}
+
+	//Pull parents smaller than elem down into the hole at i (max heap), then drop elem in
+	private void swim(int i, T elem) {
+		while(i > 0) {
+			int parent = (i - 1) >>> 1;
+			T p = (T) heap[parent];
+			if(comparator.compare(elem, p) <= 0) break;
+			heap[i] = p;
+			i = parent;
+		}
+		heap[i] = elem;
+	}
+
+	private void sink(int i, T elem) {
+		sink(heap, heapSize, i, elem);
+	}
+
+	//Pull the bigger child up into the hole at i until elem fits, then drop elem in
+	private void sink(Object[] a, int n, int i, T elem) {
+		int half = n >>> 1;
+		while(i < half) {
+			int child = 2 * i + 1;
+			int right = child + 1;
+			T c = (T) a[child];
+			if(right < n && comparator.compare((T) a[right], c) > 0) c = (T) a[child = right];
+			if(comparator.compare(elem, c) >= 0) break;
+			a[i] = c;
+			i = child;
+		}
+		a[i] = elem;
+	}
+
+	@Override
+	public String toString() {
+		return toSortedList().toString();
+	}
+
+	// Example usage
+	public static void main(String[] args) {
+
+		// Prints the 5 smallest of a million random ints
+		List<Integer> smallest = new java.util.Random(0).ints(1000000)
+			.boxed()
+			.parallel()
+			.collect(TopK.smallest(5));
+		System.out.println(smallest);
+
+		List<String> langs = java.util.Arrays.asList("Java", "Kotlin", "php", "C", "Go", "Rust");
+		System.out.println(langs.stream().collect(TopK.largest(2))); // [php, Rust]
+	}
+}
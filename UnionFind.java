@@ -1,38 +1,137 @@
 public class UnionFind {
 
+	/*id and sz are stored in fixed size chunks of 2^CHUNK_BITS ints. Growing the union
+	find only allocates new chunks (and now and then a bigger directory of chunk
+	references), so existing elements are never copied*/
+	private static final int CHUNK_BITS = 14;
+	private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
 	//The number of elements in this union find
 	private int size;
 
 	/*Used to track the size of each of the component i.e the number of elements in 
-	each component*/ 
-	private int[] sz;
+	each component. sz[c][j] is the size for element (c << CHUNK_BITS) + j*/ 
+	private int[][] sz;
+
+	//id(i) points to the parent of i, if id(i) = i then i is a root node
+	private int[][] id;
 
-	//id[i] points to the parent of i, if id[i] = i then i is a root node
-	private int[] id;
+	/*next(i) is the next element in the same component as i. The links of a component
+	form a circle, so walking them from any member visits the whole component once*/
+	private int[][] next;
 
 	//Tracks the number of components in the union find
 	private int numComponents;
 
+	//Construct an empty union find, elements are then added with makeSet()
+	public UnionFind() {
+		id = new int[1][];
+		sz = new int[1][];
+		next = new int[1][];
+	}
+
 	public UnionFind(int size) {
 
 		if(size <= 0) throw new IllegalArgumentException("Size <= 0 is not allowed");
 
-		this.size = numComponents = size;
+		int chunks = (size + CHUNK_MASK) >>> CHUNK_BITS;
+		id = new int[chunks][];
+		sz = new int[chunks][];
+		next = new int[chunks][];
+
+		/*Kind of creating a bijection here, get the elements and number them
+		[0, n) where n is the number of elements. At creation, each element is a
+		component of its own thus is its own root node and of size one*/
+		for(int i = 0; i < size; i++) makeSet();
 
-		/*an int array to indicate size of each component
-		points to each element since at creation, each element is a component
-		of its own*/
-		sz = new int[size];
-		/*int array to point to the root node of each component. At creation, each
-		element is a component of its own thus is its own root node*/
+	}
 
-		for(int i = 0; i < size; i++) {
-			/*Kind of creating a bijection here, get the elements and number them
-			[0, n) where n is the number of elements*/
-			id[i] = i;//Link to itself(self root)
-			sz[i] = 1;//Each component is originally of size one
+	/*Adds a new element as a component of its own and returns its id. Ids are handed out
+	in order, so the new id is always size() - 1 afterwards. Amortized O(1)*/
+	public int makeSet() {
+		if(size == Integer.MAX_VALUE) throw new IllegalStateException("UnionFind is full");
+
+		int p = size;
+		int c = p >>> CHUNK_BITS;
+		int j = p & CHUNK_MASK;
+
+		//Double the directory of chunks if it is full, only chunk references get copied
+		if(c == id.length) {
+			id = java.util.Arrays.copyOf(id, c << 1);
+			sz = java.util.Arrays.copyOf(sz, c << 1);
+			next = java.util.Arrays.copyOf(next, c << 1);
 		}
 
+		if(id[c] == null) {
+			id[c] = new int[CHUNK_SIZE];
+			sz[c] = new int[CHUNK_SIZE];
+			next[c] = new int[CHUNK_SIZE];
+		} else if(j == id[c].length) {
+			//Last chunk was cut short by trimToSize(), bring it back to full size
+			id[c] = java.util.Arrays.copyOf(id[c], CHUNK_SIZE);
+			sz[c] = java.util.Arrays.copyOf(sz[c], CHUNK_SIZE);
+			next[c] = java.util.Arrays.copyOf(next[c], CHUNK_SIZE);
+		}
+
+		id[c][j] = p;//Link to itself(self root)
+		sz[c][j] = 1;//Each component is originally of size one
+		next[c][j] = p;//A circle of one
+		size++;
+		numComponents++;
+		return p;
+	}
+
+	/*Gives back memory that is not in use: chunks past the last element and unused
+	directory slots. The last chunk is also cut down to what is actually used*/
+	public void trimToSize() {
+		int chunks = (size + CHUNK_MASK) >>> CHUNK_BITS;
+		id = java.util.Arrays.copyOf(id, Math.max(1, chunks));
+		sz = java.util.Arrays.copyOf(sz, Math.max(1, chunks));
+		next = java.util.Arrays.copyOf(next, Math.max(1, chunks));
+
+		int used = size & CHUNK_MASK;
+		if(chunks > 0 && used != 0) {
+			id[chunks - 1] = java.util.Arrays.copyOf(id[chunks - 1], used);
+			sz[chunks - 1] = java.util.Arrays.copyOf(sz[chunks - 1], used);
+			next[chunks - 1] = java.util.Arrays.copyOf(next[chunks - 1], used);
+		}
+	}
+
+	/*Compact pass: points every element straight at its root so that all later finds
+	are a single lookup, O(n)*/
+	public void compact() {
+		for(int i = 0; i < size; i++) find(i);
+	}
+
+	private int id(int p) {
+		return id[p >>> CHUNK_BITS][p & CHUNK_MASK];
+	}
+
+	private void setId(int p, int parent) {
+		id[p >>> CHUNK_BITS][p & CHUNK_MASK] = parent;
+	}
+
+	private int sz(int p) {
+		return sz[p >>> CHUNK_BITS][p & CHUNK_MASK];
+	}
+
+	private void setSz(int p, int size) {
+		sz[p >>> CHUNK_BITS][p & CHUNK_MASK] = size;
+	}
+
+	private int next(int p) {
+		return next[p >>> CHUNK_BITS][p & CHUNK_MASK];
+	}
+
+	private void setNext(int p, int n) {
+		next[p >>> CHUNK_BITS][p & CHUNK_MASK] = n;
+	}
+
+	//Walks up to the root without compressing anything, so it is safe to run in parallel
+	private int root(int p) {
+		while(p != id(p)) p = id(p);
+		return p;
 	}
 
 	public int find(int p) {
@@ -41,7 +140,7 @@ public class UnionFind {
 		int root = p;
 		/*Below loop will loop backward till a node linking to itself is found
 		(root node). Component identified by the root node*/
-		while(root != id[root]) root = id[root];
+		while(root != id(root)) root = id(root);
 
 		/*Having found the root node, compress the path leading to the root using an
 		operation called "Path compression". This is what gives us amortized time
@@ -50,8 +149,8 @@ public class UnionFind {
 		while (p != root) {
 			//p is the node whose path we compressing
 			//root is the root node
-			int next = id[p]; //variable "next" holds the node that is parent to p.
-			id[p] = root; //The actual path compression for node p done here
+			int next = id(p); //variable "next" holds the node that is parent to p.
+			setId(p, root); //The actual path compression for node p done here
 			p = next; /*The next node whose path we compressing is that which was
 						parent to p*/
 		}
@@ -66,7 +165,7 @@ public class UnionFind {
 
 	//Return the size of the components/set 'p' belongs to
 	public int componentSize(int p) {
-		return sz[find(p)];
+		return sz(find(p));
 	}
 
 	//Return the number of elements in this UnionFind/Disjoint set
@@ -89,17 +188,89 @@ public class UnionFind {
 		if(root1 == root2) return;
 
 		//Merge smaller component/set into the larger one.
-		if(sz[root1] < sz[root2]) {
-			sz[root2] += sz[root1];
-			id[root1] = root2;
+		if(sz(root1) < sz(root2)) {
+			setSz(root2, sz(root2) + sz(root1));
+			setId(root1, root2);
 		} else {
-			sz[root1] += sz[root2];
-			id[root2] = root1;
+			setSz(root1, sz(root1) + sz(root2));
+			setId(root2, root1);
 		}
 
+		/*Splice the two circles of members into one by swapping the next links of the
+		roots, O(1)*/
+		int tmp = next(root1);
+		setNext(root1, next(root2));
+		setNext(root2, tmp);
+
 		/*Since the roots found are differenr we know that the number of components
 		/sets has decreased by one*/
 		numComponents--;
 	}
+
+	//Returns the members of the component/set 'p' belongs to, O(size of the component)
+	public int[] members(int p) {
+		int[] members = new int[componentSize(p)];
+		int i = 0, q = p;
+		do {
+			members[i++] = q;
+			q = next(q);
+		} while(q != p);
+		return members;
+	}
+
+	//Calls action on every member of the component/set 'p' belongs to
+	public void forEachMember(int p, java.util.function.IntConsumer action) {
+		int q = p;
+		do {
+			action.accept(q);
+			q = next(q);
+		} while(q != p);
+	}
+
+	/*Returns a dense label in [0, components()) for every element: labels[i] == labels[j]
+	exactly when i and j are connected, and components are numbered in the order of their
+	root's index. The work is done in parallel blocks on the fork-join pool:
+	 1. every element looks up its root (read only, no path compression)
+	 2. the roots in each block are counted, and a prefix sum over the blocks tells every
+	    block where its labels start
+	 3. each block numbers its roots, then every element takes its root's label*/
+	public int[] labels() {
+		final int n = size;
+		final int[] labels = new int[n];
+		if(n == 0) return labels;
+
+		final int[] rootLabel = new int[n];
+		final int blockSize = Math.max(1 << 12, (n + 255) / 256);
+		final int blocks = (n + blockSize - 1) / blockSize;
+		final int[] blockStart = new int[blocks + 1];
+
+		//1 and 2: find the roots and count the roots per block
+		java.util.stream.IntStream.range(0, blocks).parallel().forEach(b -> {
+			int count = 0;
+			for(int i = b * blockSize, end = Math.min(n, i + blockSize); i < end; i++) {
+				labels[i] = root(i);
+				if(labels[i] == i) count++;
+			}
+			blockStart[b + 1] = count;
+		});
+		for(int b = 0; b < blocks; b++) blockStart[b + 1] += blockStart[b];
+
+		//3: number the roots block by block
+		java.util.stream.IntStream.range(0, blocks).parallel().forEach(b -> {
+			int label = blockStart[b];
+			for(int i = b * blockSize, end = Math.min(n, i + blockSize); i < end; i++) {
+				if(labels[i] == i) rootLabel[i] = label++;
+			}
+		});
+
+		//... and hand every element the label of its root
+		java.util.stream.IntStream.range(0, blocks).parallel().forEach(b -> {
+			for(int i = b * blockSize, end = Math.min(n, i + blockSize); i < end; i++) {
+				labels[i] = rootLabel[labels[i]];
+			}
+		});
+
+		return labels;
+	}
 	
 }
\ No newline at end of file
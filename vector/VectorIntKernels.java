@@ -0,0 +1,128 @@
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/*SIMD versions of the IntArray kernels on top of the incubating Vector API. This file
+is kept out of the main directory because it only compiles (and runs) with the module
+added:
+
+	javac --add-modules jdk.incubator.vector -d out *.java vector/*.java
+	java --add-modules jdk.incubator.vector -cp out IntArray
+
+IntArray loads this class by name and quietly uses ScalarIntKernels if it is missing.
+Every kernel handles whole vectors first and finishes the leftover tail with scalar code*/
+final class VectorIntKernels implements IntKernels {
+
+	private static final VectorSpecies<Integer> S = IntVector.SPECIES_PREFERRED;
+
+	//Same bit size as S, so one int vector widens into exactly two long vectors
+	private static final VectorSpecies<Long> L = LongVector.SPECIES_PREFERRED;
+
+	@Override
+	public long sum(int[] a, int from, int to) {
+		int i = from, bound = from + S.loopBound(to - from);
+		LongVector acc = LongVector.zero(L);
+
+		//Widen to longs before adding so the lanes can not overflow
+		for(; i < bound; i += S.length()) {
+			IntVector v = IntVector.fromArray(S, a, i);
+			acc = acc.add((LongVector) v.convertShape(VectorOperators.I2L, L, 0))
+				.add((LongVector) v.convertShape(VectorOperators.I2L, L, 1));
+		}
+
+		long sum = acc.reduceLanes(VectorOperators.ADD);
+		for(; i < to; i++) sum += a[i];
+		return sum;
+	}
+
+	@Override
+	public int min(int[] a, int from, int to) {
+		int i = from, bound = from + S.loopBound(to - from);
+		IntVector acc = IntVector.broadcast(S, Integer.MAX_VALUE);
+		for(; i < bound; i += S.length()) acc = acc.min(IntVector.fromArray(S, a, i));
+
+		int min = acc.reduceLanes(VectorOperators.MIN);
+		for(; i < to; i++) min = Math.min(min, a[i]);
+		return min;
+	}
+
+	@Override
+	public int max(int[] a, int from, int to) {
+		int i = from, bound = from + S.loopBound(to - from);
+		IntVector acc = IntVector.broadcast(S, Integer.MIN_VALUE);
+		for(; i < bound; i += S.length()) acc = acc.max(IntVector.fromArray(S, a, i));
+
+		int max = acc.reduceLanes(VectorOperators.MAX);
+		for(; i < to; i++) max = Math.max(max, a[i]);
+		return max;
+	}
+
+	@Override
+	public int count(int[] a, int from, int to, int value) {
+		int i = from, bound = from + S.loopBound(to - from), count = 0;
+		for(; i < bound; i += S.length()) {
+			count += IntVector.fromArray(S, a, i).compare(VectorOperators.EQ, value).trueCount();
+		}
+		for(; i < to; i++) if(a[i] == value) count++;
+		return count;
+	}
+
+	@Override
+	public int indexOf(int[] a, int from, int to, int value) {
+		int i = from, bound = from + S.loopBound(to - from);
+		for(; i < bound; i += S.length()) {
+			VectorMask<Integer> m = IntVector.fromArray(S, a, i).compare(VectorOperators.EQ, value);
+			if(m.anyTrue()) return i + m.firstTrue();
+		}
+		for(; i < to; i++) if(a[i] == value) return i;
+		return -1;
+	}
+
+	@Override
+	public void fill(int[] a, int from, int to, int value) {
+		int i = from, bound = from + S.loopBound(to - from);
+		IntVector v = IntVector.broadcast(S, value);
+		for(; i < bound; i += S.length()) v.intoArray(a, i);
+		for(; i < to; i++) a[i] = value;
+	}
+
+	@Override
+	public void add(int[] dst, int[] src, int len) {
+		int i = 0, bound = S.loopBound(len);
+		for(; i < bound; i += S.length()) {
+			IntVector.fromArray(S, dst, i).add(IntVector.fromArray(S, src, i)).intoArray(dst, i);
+		}
+		for(; i < len; i++) dst[i] += src[i];
+	}
+
+	@Override
+	public long[] filter(int[] a, int from, int to, Cmp op, int value) {
+		long[] bits = new long[(to - from + 63) >>> 6];
+		VectorOperators.Comparison cmp = comparison(op);
+
+		/*The lane count is a power of two no bigger than 64, so a vector's mask always
+		lands inside a single long of the result*/
+		int i = from, bound = from + S.loopBound(to - from);
+		for(; i < bound; i += S.length()) {
+			long m = IntVector.fromArray(S, a, i).compare(cmp, value).toLong();
+			bits[(i - from) >>> 6] |= m << (i - from);
+		}
+		for(; i < to; i++) {
+			if(ScalarIntKernels.test(a[i], op, value)) bits[(i - from) >>> 6] |= 1L << (i - from);
+		}
+		return bits;
+	}
+
+	private static VectorOperators.Comparison comparison(Cmp op) {
+		switch(op) {
+			case LT: return VectorOperators.LT;
+			case LE: return VectorOperators.LE;
+			case GT: return VectorOperators.GT;
+			case GE: return VectorOperators.GE;
+			case EQ: return VectorOperators.EQ;
+			default: return VectorOperators.NE;
+		}
+	}
+}